@@ -0,0 +1,50 @@
+package com.exampleautomation.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records latency of named actions, shared by all sessions of a {@link LoadRunner} run
+ */
+public class ActionTimer {
+
+    private final Map<String, Queue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Runs and times the action. A failed action is counted as error and rethrown, so that the iteration is aborted.
+     *
+     * @param action name of the action, e.g. "submit"
+     * @param body the action
+     */
+    public void time(String action, Runnable body) {
+        long start = System.nanoTime();
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            errors.computeIfAbsent(action, k -> new AtomicLong()).incrementAndGet();
+            throw e;
+        }
+        latencies.computeIfAbsent(action, k -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - start);
+    }
+
+    List<String> getActions() {
+        List<String> actions = new ArrayList<>(latencies.keySet());
+        errors.keySet().stream().filter(action -> !actions.contains(action)).forEach(actions::add);
+        return actions;
+    }
+
+    Queue<Long> getLatencies(String action) {
+        return latencies.getOrDefault(action, new ConcurrentLinkedQueue<>());
+    }
+
+    long getErrors(String action) {
+        AtomicLong count = errors.get(action);
+        return count != null ? count.get() : 0;
+    }
+}
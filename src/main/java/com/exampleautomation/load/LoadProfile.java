@@ -0,0 +1,38 @@
+package com.exampleautomation.load;
+
+import com.exampleautomation.utilities.ReadProperties;
+
+import java.time.Duration;
+
+/**
+ * Shape of the load applied by {@link LoadRunner}
+ *
+ * @param sessions number of concurrent virtual users
+ * @param maxBrowsers upper bound of browsers opened at the same time, sessions over it wait for a free browser
+ * @param rampUp time over which session starts are spread evenly
+ * @param thinkTime pause of a session between two iterations, its browser is returned to the pool meanwhile
+ * @param duration time after which no new iterations are started
+ */
+public record LoadProfile(int sessions, int maxBrowsers, Duration rampUp, Duration thinkTime, Duration duration) {
+
+    public LoadProfile {
+        if (sessions < 1 || maxBrowsers < 1) {
+            throw new IllegalArgumentException("sessions and maxBrowsers should be positive, got " + sessions + " and " + maxBrowsers);
+        }
+    }
+
+    /**
+     * Reads "load.sessions", "load.maxBrowsers", "load.rampUpSeconds", "load.thinkTimeMillis", "load.durationSeconds"
+     *
+     * @return profile from resources.properties/system properties
+     */
+    public static LoadProfile fromProperties() {
+        int sessions = Integer.parseInt(ReadProperties.getProp("load.sessions", "10"));
+        return new LoadProfile(
+                sessions,
+                Integer.parseInt(ReadProperties.getProp("load.maxBrowsers", String.valueOf(Math.min(sessions, Runtime.getRuntime().availableProcessors())))),
+                Duration.ofSeconds(Long.parseLong(ReadProperties.getProp("load.rampUpSeconds", "10"))),
+                Duration.ofMillis(Long.parseLong(ReadProperties.getProp("load.thinkTimeMillis", "1000"))),
+                Duration.ofSeconds(Long.parseLong(ReadProperties.getProp("load.durationSeconds", "60"))));
+    }
+}
@@ -0,0 +1,43 @@
+package com.exampleautomation.load;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of a {@link LoadRunner} run
+ *
+ * @param elapsed time from the first session start until the last session finished
+ * @param iterations completed iterations of all sessions
+ * @param failedIterations iterations aborted by an error
+ * @param actions statistics per action
+ */
+public record LoadReport(Duration elapsed, long iterations, long failedIterations, List<ActionStats> actions) {
+
+    /**
+     * @param action action name
+     * @param count successful executions
+     * @param errors failed executions
+     * @param throughput successful executions per second
+     */
+    public record ActionStats(String action, long count, long errors, double throughput,
+                              double meanMillis, long p50Millis, long p90Millis, long p95Millis, long p99Millis, long maxMillis) {
+    }
+
+    public ActionStats getAction(String action) {
+        return actions.stream().filter(stats -> stats.action().equals(action)).findFirst().orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("Load run %d s, %d iterations (%d failed)%n",
+                elapsed.toSeconds(), iterations, failedIterations));
+        report.append(String.format("%-10s %8s %7s %9s %8s %6s %6s %6s %6s %6s%n",
+                "action", "count", "errors", "per sec", "mean", "p50", "p90", "p95", "p99", "max"));
+        for (ActionStats stats : actions) {
+            report.append(String.format("%-10s %8d %7d %9.2f %8.1f %6d %6d %6d %6d %6d%n",
+                    stats.action(), stats.count(), stats.errors(), stats.throughput(), stats.meanMillis(),
+                    stats.p50Millis(), stats.p90Millis(), stats.p95Millis(), stats.p99Millis(), stats.maxMillis()));
+        }
+        return report.toString();
+    }
+}
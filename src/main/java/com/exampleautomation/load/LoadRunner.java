@@ -0,0 +1,168 @@
+package com.exampleautomation.load;
+
+import com.exampleautomation.utilities.DriverProvider;
+import com.exampleautomation.utilities.ReadProperties;
+import com.exampleautomation.utilities.Statistics;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Drives a {@link LoadScenario} with many concurrent sessions. Every session is a virtual thread, so thousands of
+ * waiting users cost nothing; actual browsers are borrowed per iteration from a pool bounded by
+ * {@link LoadProfile#maxBrowsers()} and created lazily.
+ * </p><p>
+ * Run from the command line with the "load.*" properties:
+ * <pre>
+ * java -Dload.sessions=50 -Dload.maxBrowsers=8 -Dload.url=http://localhost:8080 com.exampleautomation.load.LoadRunner
+ * </pre>
+ * </p>
+ */
+public class LoadRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final LoadProfile profile;
+    private final Supplier<WebDriver> driverFactory;
+    private final Queue<WebDriver> idleBrowsers = new ConcurrentLinkedQueue<>();
+    private final Queue<WebDriver> allBrowsers = new ConcurrentLinkedQueue<>();
+    private final Semaphore browserPermits;
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+
+    /**
+     * @param profile load shape
+     * @param driverFactory creates a new browser when the pool has no idle one,
+     *                      e.g. () -> DriverProvider.newHeadlessDriver("chrome")
+     */
+    public LoadRunner(LoadProfile profile, Supplier<WebDriver> driverFactory) {
+        this.profile = profile;
+        this.driverFactory = driverFactory;
+        this.browserPermits = new Semaphore(profile.maxBrowsers(), true);
+    }
+
+    public static void main(String[] args) {
+        String browser = ReadProperties.getProp("load.browser", "chrome");
+        LoadScenario scenario = LoadScenario.login(
+                Objects.requireNonNull(ReadProperties.getProp("load.url", ReadProperties.getProp("initialPage")), "load.url is not set"),
+                ReadProperties.getProp("load.username", "student"),
+                ReadProperties.getProp("load.password", "Password123"));
+        LoadReport report = new LoadRunner(LoadProfile.fromProperties(), () -> DriverProvider.newHeadlessDriver(browser)).run(scenario);
+        LOG.info("\n{}", report);
+    }
+
+    /**
+     * Runs the scenario until {@link LoadProfile#duration()} is over and all sessions finished their last iteration
+     *
+     * @param scenario iteration of a single virtual user
+     *
+     * @return latency and throughput per action
+     */
+    public LoadReport run(LoadScenario scenario) {
+        ActionTimer timer = new ActionTimer();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + profile.duration().toNanos();
+        LOG.info("Starting load: {}", profile);
+        try (ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.sessions(); i++) {
+                long startDelay = profile.rampUp().toNanos() * i / profile.sessions();
+                sessions.submit(() -> runSession(scenario, timer, startNanos + startDelay, deadline));
+            }
+        } finally {
+            allBrowsers.forEach(this::quitQuietly);
+            allBrowsers.clear();
+            idleBrowsers.clear();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        return new LoadReport(elapsed, iterations.get(), failedIterations.get(), getStats(timer, elapsed));
+    }
+
+    private Void runSession(LoadScenario scenario, ActionTimer timer, long startAt, long deadline) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, startAt - System.nanoTime()));
+        while (System.nanoTime() < deadline) {
+            WebDriver driver = null;
+            boolean healthy = false;
+            try {
+                driver = borrowBrowser();
+                scenario.iterate(driver, timer);
+                iterations.incrementAndGet();
+                healthy = true;
+            } catch (RuntimeException e) {
+                failedIterations.incrementAndGet();
+                LOG.debug("Iteration failed: {}", e.getMessage());
+            } finally {
+                if (driver != null) {
+                    returnBrowser(driver, healthy);
+                }
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(profile.thinkTime().toNanos(), Math.max(0, deadline - System.nanoTime())));
+        }
+        return null;
+    }
+
+    private WebDriver borrowBrowser() throws InterruptedException {
+        browserPermits.acquire();
+        WebDriver driver = idleBrowsers.poll();
+        if (driver != null) {
+            return driver;
+        }
+        try {
+            driver = driverFactory.get();
+        } catch (RuntimeException e) {
+            browserPermits.release();
+            throw e;
+        }
+        allBrowsers.add(driver);
+        return driver;
+    }
+
+    /**
+     * A browser that failed an iteration is in an unknown state, it is replaced instead of being reused
+     */
+    private void returnBrowser(WebDriver driver, boolean healthy) {
+        if (healthy) {
+            idleBrowsers.add(driver);
+        } else {
+            allBrowsers.remove(driver);
+            quitQuietly(driver);
+        }
+        browserPermits.release();
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOG.debug("Could not quit browser: {}", e.getMessage());
+        }
+    }
+
+    private static List<LoadReport.ActionStats> getStats(ActionTimer timer, Duration elapsed) {
+        List<LoadReport.ActionStats> stats = new ArrayList<>();
+        double seconds = Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        for (String action : timer.getActions()) {
+            Queue<Long> nanos = timer.getLatencies(action);
+            List<Long> millis = nanos.stream().map(TimeUnit.NANOSECONDS::toMillis).toList();
+            stats.add(new LoadReport.ActionStats(action, millis.size(), timer.getErrors(action), millis.size() / seconds,
+                    Statistics.mean(nanos) / 1e6,
+                    Statistics.percentile(millis, 50), Statistics.percentile(millis, 90),
+                    Statistics.percentile(millis, 95), Statistics.percentile(millis, 99),
+                    Statistics.percentile(millis, 100)));
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,40 @@
+package com.exampleautomation.load;
+
+import com.exampleautomation.pages.LoginPage;
+import com.exampleautomation.utilities.Waiter;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * One iteration of a virtual user, executed repeatedly by {@link LoadRunner}.
+ * The driver is borrowed from a pool, so an iteration should leave the browser in a reusable state.
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    void iterate(WebDriver driver, ActionTimer timer);
+
+    /**
+     * Login/logout flow of {@link LoginPage} timed as "open", "fill", "submit" and "logout" actions
+     *
+     * @param url login page
+     * @param username valid username
+     * @param password valid password
+     *
+     * @return the scenario
+     */
+    static LoadScenario login(String url, String username, String password) {
+        return (driver, timer) -> {
+            LoginPage loginPage = new LoginPage(driver);
+            timer.time("open", () -> driver.get(url));
+            timer.time("fill", () -> {
+                loginPage.fillLoginField(username);
+                loginPage.fillPasswordField(password);
+            });
+            timer.time("submit", () -> {
+                loginPage.clickSubmitButton();
+                Waiter.waitForElementToBeVisible(driver, LoginPage.Element.LOGOUT_BUTTON.by());
+            });
+            timer.time("logout", loginPage::logOut);
+        };
+    }
+}
@@ -1,18 +1,30 @@
 package com.exampleautomation.pages;
 
 import com.exampleautomation.interfaces.PageElements;
+import com.exampleautomation.utilities.AsyncActions;
+import com.exampleautomation.utilities.FrontendPerformanceCollector;
+import com.exampleautomation.utilities.PhaseTimer;
 import com.exampleautomation.utilities.Waiter;
+import com.exampleautomation.utilities.enums.Phase;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public class LoginPage {
+    public static final String LOGGED_IN = "loggedIn";
+    public static final String LOGIN_ERROR = "loginError";
+
     private WebDriver driver;
 
     public enum Element implements PageElements {
         LOGIN_FIELD(By.xpath("//input[@id='username']")),
         PASSWORD_FIELD(By.xpath("//input[@id='password']")),
         SUBMIT_BUTTON(By.xpath("//button[@id='submit']")),
-        LOGOUT_BUTTON(By.linkText("Log out"))
+        LOGOUT_BUTTON(By.linkText("Log out")),
+        ERROR_MESSAGE(By.id("error"))
         ;
 
         private final By by;
@@ -32,18 +44,56 @@ public class LoginPage {
     }
 
     public void fillLoginField(String value){
-        Waiter.waitForElementToBeVisible(driver, Element.LOGIN_FIELD.by()).sendKeys(value);
+        PhaseTimer.measure(Phase.PAGE_ACTION, () -> Waiter.waitForElementToBeVisible(driver, Element.LOGIN_FIELD.by()).sendKeys(value));
     }
 
     public void fillPasswordField(String value){
-        Waiter.waitForElementToBeVisible(driver, Element.PASSWORD_FIELD.by()).sendKeys(value);
+        PhaseTimer.measure(Phase.PAGE_ACTION, () -> Waiter.waitForElementToBeVisible(driver, Element.PASSWORD_FIELD.by()).sendKeys(value));
     }
 
     public void clickSubmitButton(){
-        Waiter.waitForElementToBeClickable(driver, Element.SUBMIT_BUTTON.by()).click();
+        PhaseTimer.measure(Phase.PAGE_ACTION, () -> Waiter.waitForElementToBeClickable(driver, Element.SUBMIT_BUTTON.by()).click());
     }
 
     public void clickLogOutButton(){
-        Waiter.waitForElementToBeClickable(driver, Element.LOGOUT_BUTTON.by()).click();
+        PhaseTimer.measure(Phase.PAGE_ACTION, () -> Waiter.waitForElementToBeClickable(driver, Element.LOGOUT_BUTTON.by()).click());
+    }
+
+    /**
+     * Clicks log out and waits for the login form, frontend performance is captured once it is shown
+     */
+    public void logOut(){
+        clickLogOutButton();
+        Waiter.waitForElementToBeVisible(driver, Element.LOGIN_FIELD.by());
+        FrontendPerformanceCollector.capture(driver, "LoginPage.logout");
+    }
+
+    /**
+     * Clicks submit and waits for whichever comes first: logged in page ({@link #LOGGED_IN}, Log out button)
+     * or error message ({@link #LOGIN_ERROR}), frontend performance is captured once the outcome is shown
+     *
+     * @return outcome with its element
+     */
+    public Waiter.Outcome submitAndWaitForOutcome(){
+        clickSubmitButton();
+        Map<String, By> outcomes = new LinkedHashMap<>();
+        outcomes.put(LOGGED_IN, Element.LOGOUT_BUTTON.by());
+        outcomes.put(LOGIN_ERROR, Element.ERROR_MESSAGE.by());
+        Waiter.Outcome outcome = Waiter.waitForAnyOutcome(driver, outcomes);
+        FrontendPerformanceCollector.capture(driver, "LoginPage.submit");
+        return outcome;
+    }
+
+    /**
+     * Fills in the credentials and submits them on a virtual thread, see {@link AsyncActions}
+     *
+     * @return outcome of the login, see {@link #submitAndWaitForOutcome()}
+     */
+    public CompletableFuture<Waiter.Outcome> loginAsync(String username, String password){
+        return AsyncActions.supplyAsync(() -> {
+            fillLoginField(username);
+            fillPasswordField(password);
+            return submitAndWaitForOutcome();
+        });
     }
 }
@@ -0,0 +1,49 @@
+package com.exampleautomation.utilities;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs page-object actions asynchronously on virtual threads, so that independent actions on several drivers
+ * overlap without a platform thread per blocked driver call, e.g.:
+ * <pre>
+ * CompletableFuture.allOf(firstLoginPage.loginAsync(user1, password1), secondLoginPage.loginAsync(user2, password2)).join();
+ * </pre>
+ * </p><p>
+ * Phase times ({@link PhaseTimer}) and frontend performance captures ({@link FrontendPerformanceCollector}) of an
+ * action are attributed to the test of the calling thread.
+ * </p><p>
+ * A WebDriver is not thread-safe: never run two actions on the same driver at the same time.
+ * </p>
+ */
+public class AsyncActions {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("async-action-", 0).factory());
+
+    private AsyncActions(){
+
+    }
+
+    public static CompletableFuture<Void> runAsync(Runnable action){
+        Supplier<Void> withContext = withCallerContext(() -> {
+            action.run();
+            return null;
+        });
+        return CompletableFuture.runAsync(withContext::get, EXECUTOR);
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> action){
+        return CompletableFuture.supplyAsync(withCallerContext(action), EXECUTOR);
+    }
+
+    /**
+     * Captures the thread-local context of the calling thread, has to be called on it
+     */
+    private static <T> Supplier<T> withCallerContext(Supplier<T> action){
+        return PhaseTimer.propagate(FrontendPerformanceCollector.propagate(action));
+    }
+}
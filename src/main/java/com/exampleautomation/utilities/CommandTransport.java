@@ -0,0 +1,159 @@
+package com.exampleautomation.utilities;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * HTTP client configuration shared by all drivers created by {@link DriverFactory}, every WebDriver command is an HTTP
+ * request to the driver process (or remote node).
+ * </p><p>
+ * Tuned with:
+ * <ul>
+ *     <li>"driver.http.connectTimeout" / "driver.http.readTimeout" - e.g. 10s, 3m (defaults 10s and 180s as in Selenium)</li>
+ *     <li>"driver.http.version" - HTTP_1_1 or HTTP_2, the JDK client default when not set</li>
+ *     <li>"driver.http.poolSize" / "driver.http.keepAlive" - idle connections kept per client and how long
+ *     (e.g. 30s) they are reused, mapped to the JDK client properties jdk.httpclient.connectionPoolSize /
+ *     jdk.httpclient.keepalive.timeout unless those are already set with -D</li>
+ * </ul>
+ * </p><p>
+ * Round trip time of every command is recorded per endpoint ({@link #getStats()}): client, HTTP transport and the
+ * time the driver or browser spent executing the command, which is not reported separately. Only the minimum of cheap
+ * commands approximates the transport cost the tuning above targets.
+ * </p>
+ */
+public class CommandTransport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommandTransport.class);
+    /**
+     * Path segments followed by an id (session id, element id, cookie name...) that is replaced in the endpoint name
+     */
+    private static final Set<String> ID_PARENTS = Set.of("session", "element", "shadow", "cookie");
+    private static final Set<String> NAMED_CHILDREN = Set.of("active");
+    private static final Map<String, Accumulator> STATS = new ConcurrentHashMap<>();
+    private static final ClientConfig CLIENT_CONFIG = createClientConfig();
+
+    private CommandTransport(){
+
+    }
+
+    /**
+     * Round trip statistics of one endpoint
+     *
+     * @param endpoint HTTP method and path with ids replaced, e.g. "POST /session/{id}/element/{id}/click"
+     * @param count number of requests
+     * @param total summed round trip time
+     * @param min fastest round trip
+     * @param max slowest round trip
+     */
+    public record CommandStats(String endpoint, long count, Duration total, Duration min, Duration max) {
+
+        public Duration getMean(){
+            return count == 0 ? Duration.ZERO : total.dividedBy(count);
+        }
+    }
+
+    /**
+     * @return client configuration for driver constructors and command executors, the base url is set by the driver
+     */
+    public static ClientConfig clientConfig(){
+        return CLIENT_CONFIG;
+    }
+
+    /**
+     * @return round trip statistics of all commands sent since start, slowest total first
+     */
+    public static List<CommandStats> getStats(){
+        List<CommandStats> stats = new ArrayList<>();
+        STATS.forEach((endpoint, accumulator) -> stats.add(accumulator.toStats(endpoint)));
+        stats.sort(Comparator.comparing(CommandStats::total).reversed());
+        return stats;
+    }
+
+    private static ClientConfig createClientConfig(){
+        setJdkProperty("jdk.httpclient.connectionPoolSize", ReadProperties.getProp("driver.http.poolSize", null), null);
+        setJdkProperty("jdk.httpclient.keepalive.timeout", ReadProperties.getProp("driver.http.keepAlive", null),
+                value -> String.valueOf(ReadProperties.parseDuration(value).toSeconds()));
+
+        ClientConfig config = ClientConfig.defaultConfig()
+                .connectionTimeout(ReadProperties.getDuration("driver.http.connectTimeout", "10s"))
+                .readTimeout(ReadProperties.getDuration("driver.http.readTimeout", "180s"))
+                .withFilter(timingFilter());
+        String version = ReadProperties.getProp("driver.http.version", null);
+        if(version != null){
+            config = config.version(version.toUpperCase());
+        }
+        LOG.info("Driver HTTP client: connect timeout {}, read timeout {}, version {}, pool size {}, keep-alive {}s",
+                config.connectionTimeout(), config.readTimeout(), version == null ? "default" : version.toUpperCase(),
+                System.getProperty("jdk.httpclient.connectionPoolSize", "unbounded"),
+                System.getProperty("jdk.httpclient.keepalive.timeout", "30"));
+        return config;
+    }
+
+    private static Filter timingFilter(){
+        return next -> request -> {
+            long start = System.nanoTime();
+            try {
+                return next.execute(request);
+            } finally {
+                STATS.computeIfAbsent(endpoint(request), key -> new Accumulator()).add(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static String endpoint(HttpRequest request){
+        String path = request.getUri();
+        int query = path.indexOf('?');
+        if(query >= 0){
+            path = path.substring(0, query);
+        }
+        String[] segments = path.split("/");
+        for (int i = 1; i < segments.length; i++) {
+            if(ID_PARENTS.contains(segments[i - 1]) && !NAMED_CHILDREN.contains(segments[i])){
+                segments[i] = "{id}";
+            }
+        }
+        return request.getMethod() + " " + String.join("/", segments);
+    }
+
+    /**
+     * The JDK client reads these once when its first connection pool is created, so they are set before any driver starts
+     */
+    private static void setJdkProperty(String key, String value, UnaryOperator<String> converter){
+        if(value == null || System.getProperty(key) != null){
+            return;
+        }
+        System.setProperty(key, converter == null ? value : converter.apply(value));
+    }
+
+    private static final class Accumulator {
+        private long count;
+        private long totalNanos;
+        private long minNanos = Long.MAX_VALUE;
+        private long maxNanos;
+
+        private synchronized void add(long nanos){
+            count++;
+            totalNanos += nanos;
+            minNanos = Math.min(minNanos, nanos);
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private synchronized CommandStats toStats(String endpoint){
+            return new CommandStats(endpoint, count, Duration.ofNanos(totalNanos),
+                    Duration.ofNanos(count == 0 ? 0 : minNanos), Duration.ofNanos(maxNanos));
+        }
+    }
+}
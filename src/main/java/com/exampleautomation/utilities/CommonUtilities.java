@@ -1,5 +1,6 @@
 package com.exampleautomation.utilities;
 
+import com.exampleautomation.utilities.enums.Phase;
 import org.openqa.selenium.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +13,19 @@ public class CommonUtilities {
 
     public static final Logger LOG = LoggerFactory.getLogger(CommonUtilities.class);
 
+    /**
+     * Opens the url in the current window, the load time is attributed to {@link Phase#NAVIGATION}.
+     * Browser performance entries of the loaded page are captured by {@link FrontendPerformanceCollector} when enabled.
+     *
+     * @param driver The WebDriver object
+     * @param url page to open
+     */
+    public static void navigateTo(WebDriver driver, String url){
+        LOG.info("Navigate to [{}]", url);
+        PhaseTimer.measure(Phase.NAVIGATION, () -> driver.get(url));
+        FrontendPerformanceCollector.capture(driver, "navigate");
+    }
+
     public static boolean isElementPresent(WebDriver driver, By locator){
         LOG.info("Check if element is present by locator[{}]", locator);
         List<WebElement> results = new ArrayList<>();
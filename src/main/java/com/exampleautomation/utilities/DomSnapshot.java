@@ -0,0 +1,331 @@
+package com.exampleautomation.utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Read-only copy of the current DOM, fetched with one executeScript call and queried in-process, so that a page with
+ * dozens of assertions costs a single browser round trip.
+ * </p><p>
+ * Supports xpath, id, css selectors (tag, #id, .class, [attr], [attr='value'], descendant and child combinators,
+ * comma groups), name, tag name, class name, link text and partial link text locators. Quoted attribute values may
+ * contain commas and combinator characters, other css (sibling combinators, pseudo classes, attribute operators) is
+ * rejected with an IllegalArgumentException.
+ * The snapshot has no layout, so it answers presence and text questions, not visibility.
+ * </p><p>
+ * Not thread-safe, capture one snapshot per thread.
+ * </p>
+ */
+public class DomSnapshot {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DomSnapshot.class);
+    private static final String SERIALIZE_SCRIPT = "return new XMLSerializer().serializeToString(document);";
+    private static final Pattern CSS_COMPOUND =
+            Pattern.compile("^([a-zA-Z][\\w-]*|\\*)?((?:#[\\w-]+|\\.[\\w-]+|\\[[\\w-]+(?:=(?:'[^']*'|\"[^\"]*\"|[\\w-]+))?])*)$");
+    private static final Pattern CSS_PART =
+            Pattern.compile("#([\\w-]+)|\\.([\\w-]+)|\\[([\\w-]+)(?:=('[^']*'|\"[^\"]*\"|[\\w-]+))?]");
+
+    private final Document document;
+    private final String text;
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+    private final Map<String, XPathExpression> compiled = new HashMap<>();
+    private final Map<String, List<Element>> idIndex = new HashMap<>();
+    private final Map<String, List<Element>> tagIndex = new HashMap<>();
+
+    /**
+     * @param xhtml well-formed markup, e.g. produced by XMLSerializer in the browser
+     */
+    public DomSnapshot(String xhtml) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(false);
+            factory.setValidating(false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            builder.setErrorHandler(null);
+            document = builder.parse(new InputSource(new StringReader(xhtml)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not parse DOM snapshot", e);
+        }
+        index(document.getDocumentElement());
+        text = document.getDocumentElement().getTextContent();
+    }
+
+    /**
+     * Serializes the DOM of the current page in the browser (single round trip) and parses it locally
+     *
+     * @param driver The WebDriver object
+     *
+     * @return snapshot of the current page
+     */
+    public static DomSnapshot capture(WebDriver driver) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Capture DOM snapshot of [{}]", driver.getCurrentUrl());
+        }
+        return new DomSnapshot((String) ((JavascriptExecutor) driver).executeScript(SERIALIZE_SCRIPT));
+    }
+
+    /**
+     * @param locator locator of the element
+     *
+     * @return all matching elements in document order
+     */
+    public List<Element> findAll(By locator) {
+        String locatorStr = locator.toString();
+        int separator = locatorStr.indexOf(": ");
+        if (!locatorStr.startsWith("By.") || separator < 0) {
+            throw new IllegalArgumentException("Unsupported locator: " + locatorStr);
+        }
+        String type = locatorStr.substring(3, separator);
+        String value = locatorStr.substring(separator + 2);
+        return switch (type) {
+            case "id" -> idIndex.getOrDefault(value, List.of());
+            case "tagName" -> tagIndex.getOrDefault(value.toLowerCase(), List.of());
+            case "xpath" -> evaluate(value);
+            case "cssSelector" -> evaluate(cssToXPath(value));
+            case "name" -> evaluate("//*[@name=" + literal(value) + "]");
+            case "className" -> evaluate("//*[contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + value + " ") + ")]");
+            case "linkText" -> evaluate("//a[normalize-space(.)=" + literal(value.strip()) + "]");
+            case "partialLinkText" -> evaluate("//a[contains(., " + literal(value) + ")]");
+            default -> throw new IllegalArgumentException("Unsupported locator: " + locatorStr);
+        };
+    }
+
+    public boolean isPresent(By locator) {
+        return !findAll(locator).isEmpty();
+    }
+
+    public int count(By locator) {
+        return findAll(locator).size();
+    }
+
+    /**
+     * @param locator locator of the element
+     *
+     * @return whitespace-normalized text of the first matching element, null if there is none
+     */
+    public String getText(By locator) {
+        List<Element> elements = findAll(locator);
+        return elements.isEmpty() ? null : elements.get(0).getTextContent().strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * @return text content of the whole document
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean containsText(String pattern) {
+        return text.contains(pattern);
+    }
+
+    /**
+     * @param patterns texts to look for
+     *
+     * @return true if the document text contains at least one of the patterns, found in a single pass
+     */
+    public boolean containsAnyText(String... patterns) {
+        return new TextMatcher(patterns).containsAny(text);
+    }
+
+    /**
+     * @param patterns texts to look for
+     *
+     * @return patterns found in the document text, found in a single pass
+     */
+    public Set<String> findTexts(String... patterns) {
+        return new TextMatcher(patterns).findAll(text);
+    }
+
+    private List<Element> evaluate(String expression) {
+        try {
+            XPathExpression compiledExpression = compiled.get(expression);
+            if (compiledExpression == null) {
+                compiledExpression = xpath.compile(expression);
+                compiled.put(expression, compiledExpression);
+            }
+            NodeList nodes = (NodeList) compiledExpression.evaluate(document, XPathConstants.NODESET);
+            List<Element> elements = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i) instanceof Element element) {
+                    elements.add(element);
+                }
+            }
+            return elements;
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid xpath: " + expression, e);
+        }
+    }
+
+    private void index(Element root) {
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        List<Element> ordered = new ArrayList<>();
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            if (node instanceof Element element) {
+                ordered.add(element);
+                NodeList children = element.getChildNodes();
+                for (int i = children.getLength() - 1; i >= 0; i--) {
+                    stack.add(children.item(i));
+                }
+            }
+        }
+        for (Element element : ordered) {
+            tagIndex.computeIfAbsent(element.getTagName().toLowerCase(), k -> new ArrayList<>()).add(element);
+            if (element.hasAttribute("id")) {
+                idIndex.computeIfAbsent(element.getAttribute("id"), k -> new ArrayList<>()).add(element);
+            }
+        }
+    }
+
+    /**
+     * Translates simple css selectors to xpath
+     *
+     * @param selector css selector
+     *
+     * @return equivalent xpath
+     *
+     * @throws IllegalArgumentException when the selector uses css the translation does not support
+     */
+    static String cssToXPath(String selector) {
+        List<String> groups = new ArrayList<>();
+        StringBuilder xpathBuilder = new StringBuilder();
+        String axis = "//";
+        for (String token : tokenize(selector)) {
+            switch (token) {
+                case ">" -> {
+                    if (xpathBuilder.isEmpty() || axis.equals("/")) {
+                        throw new IllegalArgumentException("Unsupported css selector: " + selector);
+                    }
+                    axis = "/";
+                }
+                case "," -> {
+                    groups.add(endGroup(xpathBuilder, axis, selector));
+                    xpathBuilder.setLength(0);
+                    axis = "//";
+                }
+                default -> {
+                    xpathBuilder.append(axis).append(compoundToXPath(token));
+                    axis = "//";
+                }
+            }
+        }
+        groups.add(endGroup(xpathBuilder, axis, selector));
+        return String.join(" | ", groups);
+    }
+
+    private static String endGroup(StringBuilder xpathBuilder, String axis, String selector) {
+        if (xpathBuilder.isEmpty() || axis.equals("/")) {
+            throw new IllegalArgumentException("Unsupported css selector: " + selector);
+        }
+        return xpathBuilder.toString();
+    }
+
+    /**
+     * Splits a selector into compound selectors, "&gt;" and "," tokens, ignoring separators inside brackets and quotes
+     */
+    private static List<String> tokenize(String selector) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder compound = new StringBuilder();
+        boolean inBrackets = false;
+        char quote = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                compound.append(c);
+            } else if (inBrackets) {
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == ']') {
+                    inBrackets = false;
+                }
+                compound.append(c);
+            } else if (c == '[') {
+                inBrackets = true;
+                compound.append(c);
+            } else if (c == ',' || c == '>' || Character.isWhitespace(c)) {
+                if (!compound.isEmpty()) {
+                    tokens.add(compound.toString());
+                    compound.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                compound.append(c);
+            }
+        }
+        if (inBrackets) {
+            throw new IllegalArgumentException("Unterminated attribute selector: " + selector);
+        }
+        if (!compound.isEmpty()) {
+            tokens.add(compound.toString());
+        }
+        return tokens;
+    }
+
+    private static String compoundToXPath(String compound) {
+        Matcher matcher = CSS_COMPOUND.matcher(compound);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unsupported css selector part: " + compound);
+        }
+        StringBuilder step = new StringBuilder(matcher.group(1) != null ? matcher.group(1).toLowerCase() : "*");
+        Matcher part = CSS_PART.matcher(matcher.group(2));
+        while (part.find()) {
+            if (part.group(1) != null) {
+                step.append("[@id=").append(literal(part.group(1))).append("]");
+            } else if (part.group(2) != null) {
+                step.append("[contains(concat(' ', normalize-space(@class), ' '), ").append(literal(" " + part.group(2) + " ")).append(")]");
+            } else if (part.group(4) == null) {
+                step.append("[@").append(part.group(3)).append("]");
+            } else {
+                String value = part.group(4).replaceAll("^['\"]|['\"]$", "");
+                step.append("[@").append(part.group(3)).append("=").append(literal(value)).append("]");
+            }
+        }
+        return step.toString();
+    }
+
+    /**
+     * @return xpath string literal, using concat() when the value contains both kinds of quotes
+     */
+    private static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+}
@@ -0,0 +1,254 @@
+package com.exampleautomation.utilities;
+
+import com.exampleautomation.utilities.enums.BrowserProfiles;
+import com.exampleautomation.utilities.enums.DriverTypes;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariDriverService;
+import org.openqa.selenium.safari.SafariOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Creates local browsers with the options of a {@link BrowserProfiles} profile.
+ * </p><p>
+ * Driver and browser binaries are pinned with "driver.&lt;type&gt;.driverPath" / "driver.&lt;type&gt;.browserPath"
+ * (e.g. driver.chrome.driverPath). Unpinned binaries are resolved by Selenium Manager once per type and cached in memory
+ * and in "driver.pathCacheFile" (target/driver-paths.properties by default), so later launches and runs skip the lookup
+ * and work offline.
+ * </p>
+ */
+public class DriverFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DriverFactory.class);
+    private static final Map<DriverTypes, ResolvedPaths> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverFactory(){
+
+    }
+
+    /**
+     * Binaries used to launch a browser type
+     *
+     * @param driverPath driver executable
+     * @param browserPath browser binary, null for the browser's default location
+     */
+    public record ResolvedPaths(String driverPath, String browserPath) {
+    }
+
+    public static BrowserProfiles getConfiguredProfile(){
+        return BrowserProfiles.fromString(ReadProperties.getProp("driver.profile", "default"));
+    }
+
+    /**
+     * @param type browser type
+     * @param profile option profile
+     *
+     * @return new local browser talking over the shared {@link CommandTransport} client configuration,
+     * not maximized (see {@link BrowserProfiles#DEFAULT})
+     */
+    public static WebDriver create(DriverTypes type, BrowserProfiles profile){
+        Capabilities options = createOptions(type, profile);
+        DriverService service = createService(type);
+        ClientConfig clientConfig = CommandTransport.clientConfig();
+        return switch (type){
+            case FIREFOX -> new FirefoxDriver((GeckoDriverService) service, (FirefoxOptions) options, clientConfig);
+            case EDGE -> new EdgeDriver((EdgeDriverService) service, (EdgeOptions) options, clientConfig);
+            case SAFARI -> new SafariDriver((SafariDriverService) service, (SafariOptions) options, clientConfig);
+            default -> new ChromeDriver((ChromeDriverService) service, (ChromeOptions) options, clientConfig);
+        };
+    }
+
+    /**
+     * @param type browser type
+     * @param profile option profile
+     *
+     * @return browser options of the profile with the pinned/resolved browser binary
+     */
+    public static Capabilities createOptions(DriverTypes type, BrowserProfiles profile){
+        return createOptions(type, profile, resolve(type).browserPath());
+    }
+
+    /**
+     * @param type browser type
+     * @param profile option profile
+     *
+     * @return browser options of the profile for a remote node, the node decides on the binaries
+     */
+    public static Capabilities createRemoteOptions(DriverTypes type, BrowserProfiles profile){
+        return createOptions(type, profile, null);
+    }
+
+    private static Capabilities createOptions(DriverTypes type, BrowserProfiles profile, String browserPath){
+        String[] windowSize = ReadProperties.getProp("driver.windowSize", "1920,1080").split("\\s*,\\s*");
+        switch (type){
+            case FIREFOX -> {
+                FirefoxOptions options = new FirefoxOptions();
+                if(profile.isHeadless()){
+                    options.addArguments("-headless", "--width=" + windowSize[0], "--height=" + windowSize[1]);
+                }
+                if(profile.isStripped()){
+                    options.addPreference("extensions.enabledScopes", 0);
+                    options.addPreference("layers.acceleration.disabled", true);
+                    options.addPreference("app.update.auto", false);
+                    options.addPreference("browser.shell.checkDefaultBrowser", false);
+                    options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+                    options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+                    options.addPreference("toolkit.telemetry.enabled", false);
+                    options.addPreference("network.prefetch-next", false);
+                }
+                if(browserPath != null){
+                    options.setBinary(browserPath);
+                }
+                return options;
+            }
+            case SAFARI -> {
+                if(profile != BrowserProfiles.DEFAULT){
+                    LOG.warn("Safari has no headless mode, profile {} is applied as default", profile);
+                }
+                return new SafariOptions();
+            }
+            default -> {
+                ChromiumOptions<?> options;
+                if(type == DriverTypes.EDGE){
+                    options = new EdgeOptions();
+                } else {
+                    options = new ChromeOptions();
+                }
+                if(profile.isHeadless()){
+                    options.addArguments("--headless=new", "--window-size=" + windowSize[0] + "," + windowSize[1]);
+                }
+                if(profile.isStripped()){
+                    options.addArguments("--disable-extensions", "--disable-gpu", "--disable-background-networking",
+                            "--disable-background-timer-throttling", "--disable-renderer-backgrounding",
+                            "--disable-default-apps", "--disable-sync", "--no-first-run", "--no-default-browser-check",
+                            "--mute-audio");
+                }
+                if(browserPath != null){
+                    options.setBinary(browserPath);
+                }
+                return options;
+            }
+        }
+    }
+
+    /**
+     * @param type browser type
+     *
+     * @return driver service using the pinned/resolved driver executable
+     */
+    public static DriverService createService(DriverTypes type){
+        File executable = new File(resolve(type).driverPath());
+        return switch (type){
+            case FIREFOX -> new GeckoDriverService.Builder().usingDriverExecutable(executable).build();
+            case EDGE -> new EdgeDriverService.Builder().usingDriverExecutable(executable).build();
+            case SAFARI -> new SafariDriverService.Builder().usingDriverExecutable(executable).build();
+            default -> new ChromeDriverService.Builder().usingDriverExecutable(executable).build();
+        };
+    }
+
+    /**
+     * @param type browser type
+     *
+     * @return pinned binaries, otherwise cached or (once) resolved by Selenium Manager
+     */
+    public static ResolvedPaths resolve(DriverTypes type){
+        return RESOLVED.computeIfAbsent(type, DriverFactory::resolveUncached);
+    }
+
+    private static synchronized ResolvedPaths resolveUncached(DriverTypes type){
+        String key = type.name().toLowerCase();
+        String pinnedDriver = ReadProperties.getProp("driver." + key + ".driverPath", null);
+        String pinnedBrowser = ReadProperties.getProp("driver." + key + ".browserPath", null);
+        if(pinnedDriver != null){
+            LOG.info("Using pinned {} driver [{}], browser [{}]", key, pinnedDriver, pinnedBrowser);
+            return new ResolvedPaths(pinnedDriver, pinnedBrowser);
+        }
+        Path cacheFile = Path.of(ReadProperties.getProp("driver.pathCacheFile", "target/driver-paths.properties"));
+        Properties cache = loadCache(cacheFile);
+        String cachedDriver = cache.getProperty(key + ".driverPath");
+        String cachedBrowser = pinnedBrowser != null ? pinnedBrowser : cache.getProperty(key + ".browserPath");
+        if(cachedDriver != null && Files.isExecutable(Path.of(cachedDriver))
+                && (cachedBrowser == null || Files.exists(Path.of(cachedBrowser)))){
+            LOG.info("Using cached {} driver [{}], browser [{}]", key, cachedDriver, cachedBrowser);
+            return new ResolvedPaths(cachedDriver, cachedBrowser);
+        }
+
+        long start = System.nanoTime();
+        DriverService service = switch (type){
+            case FIREFOX -> GeckoDriverService.createDefaultService();
+            case EDGE -> EdgeDriverService.createDefaultService();
+            case SAFARI -> SafariDriverService.createDefaultService();
+            default -> ChromeDriverService.createDefaultService();
+        };
+        Capabilities options = switch (type){
+            case FIREFOX -> new FirefoxOptions();
+            case EDGE -> new EdgeOptions();
+            case SAFARI -> new SafariOptions();
+            default -> new ChromeOptions();
+        };
+        DriverFinder finder = new DriverFinder(service, options);
+        ResolvedPaths paths = new ResolvedPaths(finder.getDriverPath(),
+                pinnedBrowser != null ? pinnedBrowser : finder.hasBrowserPath() ? finder.getBrowserPath() : null);
+        LOG.info("Resolved {} driver [{}], browser [{}] in {} ms", key, paths.driverPath(), paths.browserPath(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        cache.setProperty(key + ".driverPath", paths.driverPath());
+        // a pinned browser is read from the properties on every run, only resolved paths are cached
+        if(pinnedBrowser == null && paths.browserPath() != null){
+            cache.setProperty(key + ".browserPath", paths.browserPath());
+        }
+        storeCache(cacheFile, cache);
+        return paths;
+    }
+
+    private static Properties loadCache(Path file){
+        Properties cache = new Properties();
+        if(Files.exists(file)){
+            try (Reader reader = Files.newBufferedReader(file)) {
+                cache.load(reader);
+            } catch (IOException e){
+                LOG.warn("Could not read driver path cache [{}]: {}", file, e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static void storeCache(Path file, Properties cache){
+        try {
+            if(file.getParent() != null){
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                cache.store(writer, "Driver and browser binaries resolved by Selenium Manager, delete to resolve again");
+            }
+        } catch (IOException e){
+            LOG.warn("Could not write driver path cache [{}]: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,44 +1,141 @@
 package com.exampleautomation.utilities;
 
+import com.exampleautomation.utilities.enums.BrowserProfiles;
 import com.exampleautomation.utilities.enums.DriverTypes;
+import com.exampleautomation.utilities.enums.Phase;
+import com.exampleautomation.utilities.remote.RemoteNodePool;
+import com.exampleautomation.utilities.replay.SessionRecordings;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Semaphore;
+
 public class DriverProvider {
 
-    private static WebDriver driver;
+    /**
+     * One browser per thread, so tests can run in parallel (platform or virtual threads)
+     */
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    /**
+     * Bounds the number of browsers open at the same time when "driver.maxBrowsers" is set,
+     * threads over the limit wait in {@link #getDriver(String)} until another thread quits its browser
+     */
+    private static final Semaphore BROWSER_PERMITS = createBrowserPermits();
+    /**
+     * Remote nodes of "remote.nodes", live browsers start locally when not set
+     */
+    private static final RemoteNodePool REMOTE_NODES = RemoteNodePool.fromProperties();
     private static  final Logger LOG = LoggerFactory.getLogger(DriverProvider.class);
 
     private DriverProvider(){
 
     }
 
-    private static void startDriver(String type){
-        switch (DriverTypes.fromString(type)){
-            case FIREFOX -> driver = new FirefoxDriver();
-            case EDGE -> driver = new EdgeDriver();
-            default -> driver = new ChromeDriver();
+    /**
+     * Starts the browser according to "driver.mode": "live" (default) - local browser or a session on the least loaded
+     * node of "remote.nodes" (see {@link RemoteNodePool}), "record" - local browser with every command
+     * recorded, "replay" - no browser, responses are served from the recording of the same test. Recordings are named
+     * after the test that starts the session, "&lt;test&gt;_&lt;Class.method&gt;-N.jsonl.gz", the name is set per thread with
+     * {@link SessionRecordings#setSessionName(String)} (by RecordingSessionListener in the test sources) and N only
+     * separates sessions started under the same name
+     */
+    private static WebDriver startDriver(String type){
+        switch (ReadProperties.getProp("driver.mode", "live").toLowerCase()){
+            case "record" -> {
+                return SessionRecordings.startRecording(DriverTypes.fromString(type), DriverFactory.getConfiguredProfile(),
+                        SessionRecordings.nextSessionFile());
+            }
+            case "replay" -> {
+                return SessionRecordings.startReplay(SessionRecordings.nextSessionFile());
+            }
+            default -> {
+            }
+        }
+        if(REMOTE_NODES != null){
+            return REMOTE_NODES.newDriver(DriverFactory.createRemoteOptions(DriverTypes.fromString(type),
+                    DriverFactory.getConfiguredProfile()));
         }
+        return DriverFactory.create(DriverTypes.fromString(type), DriverFactory.getConfiguredProfile());
     }
 
+    /**
+     * @param type browser type, see {@link DriverTypes}
+     *
+     * @return browser of the current thread, started on the first call
+     */
     public static WebDriver getDriver(String type){
+        WebDriver driver = DRIVER.get();
         if(driver == null){
-            startDriver(type);
-            driver.manage().window().maximize();
-            return driver;
+            try (PhaseTimer.Scope ignored = PhaseTimer.start(Phase.DRIVER_START)) {
+                if(BROWSER_PERMITS != null){
+                    BROWSER_PERMITS.acquireUninterruptibly();
+                }
+                try {
+                    driver = startDriver(type);
+                    if(!DriverFactory.getConfiguredProfile().isHeadless()){
+                        driver.manage().window().maximize();
+                    }
+                } catch (RuntimeException e){
+                    if(driver != null){
+                        driver.quit();
+                    }
+                    if(BROWSER_PERMITS != null){
+                        BROWSER_PERMITS.release();
+                    }
+                    throw e;
+                }
+                DRIVER.set(driver);
+                FrameworkMetrics.driverStarted();
+            }
         }
         return driver;
     }
 
+    /**
+     * Creates a new headless browser with the {@link BrowserProfiles#FAST} profile that is NOT managed by this provider
+     * (not bound to the thread, caller has to quit it), used when many independent sessions are needed, e.g. by the load runner
+     *
+     * @param type browser type, see {@link DriverTypes}
+     *
+     * @return new headless WebDriver
+     */
+    public static WebDriver newHeadlessDriver(String type){
+        return DriverFactory.create(DriverTypes.fromString(type), BrowserProfiles.FAST);
+    }
+
     public static void quitDriver(){
+        WebDriver driver = DRIVER.get();
         if(driver != null){
-            driver.quit();
-            driver = null;
+            DRIVER.remove();
+            FrameworkMetrics.driverQuit();
+            try (PhaseTimer.Scope ignored = PhaseTimer.start(Phase.DRIVER_QUIT)) {
+                driver.quit();
+            } finally {
+                if(BROWSER_PERMITS != null){
+                    BROWSER_PERMITS.release();
+                }
+            }
         }
         LOG.info("browser is closed");
     }
+
+    /**
+     * @return browsers that can still start under "driver.maxBrowsers", -1 when not bounded
+     */
+    public static int getAvailableBrowserPermits(){
+        return BROWSER_PERMITS != null ? BROWSER_PERMITS.availablePermits() : -1;
+    }
+
+    /**
+     * @return threads waiting in {@link #getDriver(String)} for another thread to quit its browser
+     */
+    public static int getQueuedForBrowser(){
+        return BROWSER_PERMITS != null ? BROWSER_PERMITS.getQueueLength() : 0;
+    }
+
+    private static Semaphore createBrowserPermits(){
+        String maxBrowsers = ReadProperties.getProp("driver.maxBrowsers", null);
+        return maxBrowsers != null ? new Semaphore(Integer.parseInt(maxBrowsers), true) : null;
+    }
 }
@@ -0,0 +1,217 @@
+package com.exampleautomation.utilities;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Live counters of the running execution: finished tests (with a one minute sliding window for throughput), open
+ * browsers of {@link DriverProvider}, in-flight {@link Waiter} waits and failure/retry counts.
+ * </p><p>
+ * Exposed in Prometheus text format and as an MXBean by {@link MetricsEndpoint}, tests are counted by the MetricsListener
+ * in the test sources.
+ * </p>
+ */
+public class FrameworkMetrics {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final Deque<Long> FINISHED_IN_WINDOW = new ConcurrentLinkedDeque<>();
+    private static final LongAdder PASSED = new LongAdder();
+    private static final LongAdder FAILED = new LongAdder();
+    private static final LongAdder SKIPPED = new LongAdder();
+    private static final LongAdder RETRIED = new LongAdder();
+    private static final AtomicInteger ACTIVE_DRIVERS = new AtomicInteger();
+    private static final LongAdder DRIVERS_STARTED = new LongAdder();
+    private static final Map<Long, Long> WAITS_IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final AtomicLong WAIT_IDS = new AtomicLong();
+    private static final LongAdder WAITS_COMPLETED = new LongAdder();
+    private static final LongAdder WAIT_NANOS = new LongAdder();
+
+    private FrameworkMetrics(){
+
+    }
+
+    /**
+     * In-flight wait, removed from the gauges on close
+     */
+    public static final class WaitScope implements AutoCloseable {
+        private final long id;
+        private final long startNanos;
+
+        private WaitScope(long id, long startNanos) {
+            this.id = id;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            WAITS_IN_FLIGHT.remove(id);
+            WAITS_COMPLETED.increment();
+            WAIT_NANOS.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * @param status TestNG result status: 1 success, 2 failure, 3 skip
+     * @param retried whether the result was replaced by a retry
+     */
+    public static void testFinished(int status, boolean retried){
+        long now = System.nanoTime();
+        FINISHED_IN_WINDOW.addLast(now);
+        pruneWindow(now);
+        if(retried){
+            RETRIED.increment();
+            return;
+        }
+        switch (status){
+            case 1 -> PASSED.increment();
+            case 2 -> FAILED.increment();
+            default -> SKIPPED.increment();
+        }
+    }
+
+    static void driverStarted(){
+        ACTIVE_DRIVERS.incrementAndGet();
+        DRIVERS_STARTED.increment();
+    }
+
+    static void driverQuit(){
+        ACTIVE_DRIVERS.decrementAndGet();
+    }
+
+    static WaitScope startWait(){
+        long id = WAIT_IDS.incrementAndGet();
+        long start = System.nanoTime();
+        WAITS_IN_FLIGHT.put(id, start);
+        return new WaitScope(id, start);
+    }
+
+    /**
+     * @return tests finished in the last minute
+     */
+    public static int getTestsPerMinute(){
+        pruneWindow(System.nanoTime());
+        return FINISHED_IN_WINDOW.size();
+    }
+
+    public static long getTestsPassed(){
+        return PASSED.sum();
+    }
+
+    public static long getTestsFailed(){
+        return FAILED.sum();
+    }
+
+    public static long getTestsSkipped(){
+        return SKIPPED.sum();
+    }
+
+    public static long getTestsRetried(){
+        return RETRIED.sum();
+    }
+
+    /**
+     * @return failed / (passed + failed), 0 before the first result
+     */
+    public static double getFailureRate(){
+        long failed = FAILED.sum();
+        long executed = PASSED.sum() + failed;
+        return executed == 0 ? 0 : (double) failed / executed;
+    }
+
+    /**
+     * @return retried / all results, 0 before the first result
+     */
+    public static double getRetryRate(){
+        long retried = RETRIED.sum();
+        long all = PASSED.sum() + FAILED.sum() + SKIPPED.sum() + retried;
+        return all == 0 ? 0 : (double) retried / all;
+    }
+
+    public static int getActiveDrivers(){
+        return ACTIVE_DRIVERS.get();
+    }
+
+    public static long getDriversStarted(){
+        return DRIVERS_STARTED.sum();
+    }
+
+    public static int getWaitsInFlight(){
+        return WAITS_IN_FLIGHT.size();
+    }
+
+    /**
+     * @return elapsed time of the longest running wait, zero when none is running
+     */
+    public static Duration getOldestWait(){
+        long now = System.nanoTime();
+        long oldestStart = WAITS_IN_FLIGHT.values().stream().mapToLong(Long::longValue).min().orElse(now);
+        return Duration.ofNanos(now - oldestStart);
+    }
+
+    public static long getWaitsCompleted(){
+        return WAITS_COMPLETED.sum();
+    }
+
+    public static Duration getWaitTimeTotal(){
+        return Duration.ofNanos(WAIT_NANOS.sum());
+    }
+
+    /**
+     * @return all metrics in Prometheus text exposition format
+     */
+    public static String toPrometheus(){
+        StringBuilder text = new StringBuilder();
+        gauge(text, "tests_per_minute", "Tests finished in the last minute", getTestsPerMinute());
+        text.append("# HELP automation_tests_total Finished tests by result\n")
+                .append("# TYPE automation_tests_total counter\n")
+                .append("automation_tests_total{result=\"passed\"} ").append(getTestsPassed()).append('\n')
+                .append("automation_tests_total{result=\"failed\"} ").append(getTestsFailed()).append('\n')
+                .append("automation_tests_total{result=\"skipped\"} ").append(getTestsSkipped()).append('\n')
+                .append("automation_tests_total{result=\"retried\"} ").append(getTestsRetried()).append('\n');
+        gauge(text, "test_failure_ratio", "Failed / executed tests", getFailureRate());
+        gauge(text, "test_retry_ratio", "Retried / all test results", getRetryRate());
+        gauge(text, "drivers_active", "Open browsers of DriverProvider", getActiveDrivers());
+        counter(text, "drivers_started_total", "Browsers started by DriverProvider", getDriversStarted());
+        int available = DriverProvider.getAvailableBrowserPermits();
+        if(available >= 0){
+            gauge(text, "driver_permits_available", "Browsers that can still start under driver.maxBrowsers", available);
+            gauge(text, "driver_permits_queued", "Threads waiting for a browser permit", DriverProvider.getQueuedForBrowser());
+        }
+        gauge(text, "waits_in_flight", "Running Waiter waits", getWaitsInFlight());
+        gauge(text, "wait_oldest_seconds", "Elapsed time of the longest running wait", getOldestWait().toNanos() / 1e9);
+        counter(text, "waits_total", "Completed Waiter waits", getWaitsCompleted());
+        counter(text, "wait_seconds_total", "Time spent in completed waits", getWaitTimeTotal().toNanos() / 1e9);
+        return text.toString();
+    }
+
+    private static void gauge(StringBuilder text, String name, String help, Number value){
+        metric(text, name, "gauge", help, value);
+    }
+
+    private static void counter(StringBuilder text, String name, String help, Number value){
+        metric(text, name, "counter", help, value);
+    }
+
+    private static void metric(StringBuilder text, String name, String type, String help, Number value){
+        text.append("# HELP automation_").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE automation_").append(name).append(' ').append(type).append('\n')
+                .append("automation_").append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void pruneWindow(long now){
+        Long oldest;
+        while ((oldest = FINISHED_IN_WINDOW.pollFirst()) != null){
+            if(now - oldest <= WINDOW.toNanos()){
+                FINISHED_IN_WINDOW.addFirst(oldest);
+                return;
+            }
+        }
+    }
+}
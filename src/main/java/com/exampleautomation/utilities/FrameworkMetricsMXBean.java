@@ -0,0 +1,40 @@
+package com.exampleautomation.utilities;
+
+/**
+ * JMX view of {@link FrameworkMetrics}, registered as "com.exampleautomation:type=FrameworkMetrics" by {@link MetricsEndpoint}
+ */
+public interface FrameworkMetricsMXBean {
+
+    int getTestsPerMinute();
+
+    long getTestsPassed();
+
+    long getTestsFailed();
+
+    long getTestsSkipped();
+
+    long getTestsRetried();
+
+    double getFailureRate();
+
+    double getRetryRate();
+
+    int getActiveDrivers();
+
+    long getDriversStarted();
+
+    /**
+     * @return browsers that can still start under "driver.maxBrowsers", -1 when not bounded
+     */
+    int getAvailableBrowserPermits();
+
+    int getQueuedForBrowser();
+
+    int getWaitsInFlight();
+
+    long getOldestWaitMillis();
+
+    long getWaitsCompleted();
+
+    long getWaitTimeTotalMillis();
+}
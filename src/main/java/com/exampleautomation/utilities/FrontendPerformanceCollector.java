@@ -0,0 +1,204 @@
+package com.exampleautomation.utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Collects browser performance entries (Navigation Timing, paint, LCP and the Resource Timing entries added since the
+ * previous capture) with a single executeScript call.
+ * </p><p>
+ * Captures are collected per thread and picked up by FrontendPerformanceListener in the test sources, which attaches
+ * them to the test result and appends them to the run time series. They are only kept between
+ * {@link #startCollecting()} and {@link #stopCollecting()}, so runs without the listener (load runner, remote nodes)
+ * do not pile them up.
+ * Disabled unless "frontend.performance.enabled" is true, so page objects can call {@link #capture(WebDriver, String)}
+ * unconditionally.
+ * </p>
+ */
+public class FrontendPerformanceCollector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FrontendPerformanceCollector.class);
+    private static final ThreadLocal<List<Snapshot>> SNAPSHOTS =
+            ThreadLocal.withInitial(() -> Collections.synchronizedList(new ArrayList<>()));
+    /**
+     * Listeners currently draining the snapshots, parallel suites each start and stop collecting
+     */
+    private static final AtomicInteger COLLECTORS = new AtomicInteger();
+    private static final String COLLECT_SCRIPT = """
+            var perf = window.performance;
+            if (!perf || !perf.getEntriesByType) { return null; }
+            var result = {url: location.href, navigation: null, paint: {}, lcp: null, resources: []};
+            var nav = perf.getEntriesByType('navigation')[0];
+            if (nav) {
+              result.navigation = {type: nav.type, requestStart: nav.requestStart, responseStart: nav.responseStart,
+                responseEnd: nav.responseEnd, domInteractive: nav.domInteractive,
+                domContentLoaded: nav.domContentLoadedEventEnd, loadEventEnd: nav.loadEventEnd,
+                duration: nav.duration, transferSize: nav.transferSize};
+            }
+            perf.getEntriesByType('paint').forEach(function (e) { result.paint[e.name] = e.startTime; });
+            try {
+              var observer = new PerformanceObserver(function () {});
+              observer.observe({type: 'largest-contentful-paint', buffered: true});
+              var lcp = observer.takeRecords();
+              observer.disconnect();
+              if (lcp.length) {
+                var last = lcp[lcp.length - 1];
+                result.lcp = {startTime: last.startTime, size: last.size, element: last.element ? last.element.tagName : null};
+              }
+            } catch (e) { }
+            var resources = perf.getEntriesByType('resource');
+            var cursor = window.__frontendPerformanceCursor || 0;
+            for (var i = cursor; i < resources.length; i++) {
+              var r = resources[i];
+              result.resources.push({name: r.name, initiatorType: r.initiatorType, startTime: r.startTime,
+                duration: r.duration, transferSize: r.transferSize});
+            }
+            window.__frontendPerformanceCursor = resources.length;
+            return result;
+            """;
+
+    private FrontendPerformanceCollector(){
+
+    }
+
+    public static boolean isEnabled(){
+        return Boolean.parseBoolean(ReadProperties.getProp("frontend.performance.enabled", "false"));
+    }
+
+    /**
+     * Keeps captured snapshots for {@link #drainSnapshots()}, every call has to be paired with {@link #stopCollecting()}
+     */
+    public static void startCollecting(){
+        COLLECTORS.incrementAndGet();
+    }
+
+    public static void stopCollecting(){
+        COLLECTORS.decrementAndGet();
+    }
+
+    /**
+     * Wraps an action that runs on another thread, e.g. in {@link AsyncActions}, so its snapshots are collected for the
+     * calling thread
+     *
+     * @param action action to run on another thread
+     *
+     * @return wrapped action
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> action){
+        List<Snapshot> callerSnapshots = SNAPSHOTS.get();
+        return () -> {
+            List<Snapshot> previous = SNAPSHOTS.get();
+            SNAPSHOTS.set(callerSnapshots);
+            try {
+                return action.get();
+            } finally {
+                SNAPSHOTS.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Captures performance entries of the current page, call after a navigation or an action that loads content
+     *
+     * @param driver The WebDriver object
+     * @param label name of the navigation/action, e.g. "LoginPage.submit"
+     *
+     * @return captured snapshot, null if collection is disabled or the browser does not expose the Performance API.
+     * The snapshot is kept for {@link #drainSnapshots()} only while a listener is collecting.
+     */
+    @SuppressWarnings("unchecked")
+    public static Snapshot capture(WebDriver driver, String label){
+        if(!isEnabled() || !(driver instanceof JavascriptExecutor)){
+            return null;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT);
+            if(!(result instanceof Map)){
+                return null;
+            }
+            Snapshot snapshot = new Snapshot(label, Instant.now(), (Map<String, Object>) result);
+            if(COLLECTORS.get() > 0){
+                SNAPSHOTS.get().add(snapshot);
+            }
+            LOG.debug("Captured frontend performance [{}]: {}", label, snapshot.getSummary());
+            return snapshot;
+        } catch (WebDriverException e){
+            LOG.warn("Could not capture frontend performance [{}]: {}", label, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The list stays bound to the thread, async actions started by it ({@link #propagate(Supplier)}) may still add to it
+     *
+     * @return copy of the snapshots captured for the current thread since the previous call
+     */
+    public static List<Snapshot> drainSnapshots(){
+        List<Snapshot> snapshots = SNAPSHOTS.get();
+        synchronized (snapshots) {
+            if(snapshots.isEmpty()){
+                return Collections.emptyList();
+            }
+            List<Snapshot> drained = List.copyOf(snapshots);
+            snapshots.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * Performance entries captured after one navigation/action
+     *
+     * @param label name of the navigation/action
+     * @param capturedAt capture time
+     * @param entries raw entries as returned by the browser
+     */
+    public record Snapshot(String label, Instant capturedAt, Map<String, Object> entries) {
+
+        /**
+         * @return key metrics in milliseconds relative to navigation start (ttfb, domContentLoaded, load, fcp, lcp)
+         * plus count and transfer size of new resources
+         */
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> getSummary(){
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("url", entries.get("url"));
+            Map<String, Object> navigation = (Map<String, Object>) entries.get("navigation");
+            if(navigation != null){
+                summary.put("ttfb", navigation.get("responseStart"));
+                summary.put("domContentLoaded", navigation.get("domContentLoaded"));
+                summary.put("load", navigation.get("loadEventEnd"));
+            }
+            Map<String, Object> paint = (Map<String, Object>) entries.get("paint");
+            if(paint != null){
+                summary.put("fcp", paint.get("first-contentful-paint"));
+            }
+            Map<String, Object> lcp = (Map<String, Object>) entries.get("lcp");
+            if(lcp != null){
+                summary.put("lcp", lcp.get("startTime"));
+            }
+            List<Map<String, Object>> resources = (List<Map<String, Object>>) entries.get("resources");
+            if(resources != null){
+                summary.put("resourceCount", resources.size());
+                summary.put("resourceTransferSize", resources.stream()
+                        .map(r -> r.get("transferSize"))
+                        .filter(Number.class::isInstance)
+                        .mapToLong(size -> ((Number) size).longValue())
+                        .sum());
+            }
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.exampleautomation.utilities;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>
+ * Publishes {@link FrameworkMetrics} while tests are running: as MXBean "com.exampleautomation:type=FrameworkMetrics"
+ * (jconsole, VisualVM) and, when "metrics.port" is set, in Prometheus text format on http://localhost:&lt;port&gt;/metrics.
+ * </p><p>
+ * The HTTP server only listens on the loopback interface, set "metrics.host" (e.g. 0.0.0.0) to let a remote Prometheus
+ * scrape it.
+ * </p><p>
+ * Every {@link #start()} has to be paired with {@link #stop()}, the HTTP server stops with the last one so parallel
+ * suites can share it.
+ * </p>
+ */
+public class MetricsEndpoint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsEndpoint.class);
+    private static final String OBJECT_NAME = "com.exampleautomation:type=FrameworkMetrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static int users;
+
+    private MetricsEndpoint(){
+
+    }
+
+    public static synchronized void start(){
+        if(users++ > 0){
+            return;
+        }
+        registerMXBean();
+        String port = ReadProperties.getProp("metrics.port", null);
+        if(port == null){
+            return;
+        }
+        String host = ReadProperties.getProp("metrics.host", null);
+        try {
+            InetAddress address = host == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(host);
+            server = HttpServer.create(new InetSocketAddress(address, Integer.parseInt(port)), 0);
+            server.createContext("/metrics", MetricsEndpoint::respond);
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
+            server.start();
+            LOG.info("Metrics are served on http://{}:{}/metrics", address.getHostAddress(), server.getAddress().getPort());
+        } catch (IOException e){
+            LOG.warn("Could not start the metrics endpoint on {}:{}: {}", host == null ? "loopback" : host, port, e.getMessage());
+            server = null;
+            shutdownExecutor();
+        }
+    }
+
+    public static synchronized void stop(){
+        if(users == 0 || --users > 0){
+            return;
+        }
+        if(server != null){
+            server.stop(0);
+            server = null;
+        }
+        shutdownExecutor();
+    }
+
+    /**
+     * HttpServer.stop does not stop an executor set by the caller
+     */
+    private static void shutdownExecutor(){
+        if(executor != null){
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        byte[] body = FrameworkMetrics.toPrometheus().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void registerMXBean(){
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if(!mBeanServer.isRegistered(name)){
+                mBeanServer.registerMBean(new StandardMBean(new MXBean(), FrameworkMetricsMXBean.class, true), name);
+            }
+        } catch (JMException e){
+            LOG.warn("Could not register {}: {}", OBJECT_NAME, e.getMessage());
+        }
+    }
+
+    private static final class MXBean implements FrameworkMetricsMXBean {
+
+        @Override
+        public int getTestsPerMinute() {
+            return FrameworkMetrics.getTestsPerMinute();
+        }
+
+        @Override
+        public long getTestsPassed() {
+            return FrameworkMetrics.getTestsPassed();
+        }
+
+        @Override
+        public long getTestsFailed() {
+            return FrameworkMetrics.getTestsFailed();
+        }
+
+        @Override
+        public long getTestsSkipped() {
+            return FrameworkMetrics.getTestsSkipped();
+        }
+
+        @Override
+        public long getTestsRetried() {
+            return FrameworkMetrics.getTestsRetried();
+        }
+
+        @Override
+        public double getFailureRate() {
+            return FrameworkMetrics.getFailureRate();
+        }
+
+        @Override
+        public double getRetryRate() {
+            return FrameworkMetrics.getRetryRate();
+        }
+
+        @Override
+        public int getActiveDrivers() {
+            return FrameworkMetrics.getActiveDrivers();
+        }
+
+        @Override
+        public long getDriversStarted() {
+            return FrameworkMetrics.getDriversStarted();
+        }
+
+        @Override
+        public int getAvailableBrowserPermits() {
+            return DriverProvider.getAvailableBrowserPermits();
+        }
+
+        @Override
+        public int getQueuedForBrowser() {
+            return DriverProvider.getQueuedForBrowser();
+        }
+
+        @Override
+        public int getWaitsInFlight() {
+            return FrameworkMetrics.getWaitsInFlight();
+        }
+
+        @Override
+        public long getOldestWaitMillis() {
+            return FrameworkMetrics.getOldestWait().toMillis();
+        }
+
+        @Override
+        public long getWaitsCompleted() {
+            return FrameworkMetrics.getWaitsCompleted();
+        }
+
+        @Override
+        public long getWaitTimeTotalMillis() {
+            return FrameworkMetrics.getWaitTimeTotal().toMillis();
+        }
+    }
+}
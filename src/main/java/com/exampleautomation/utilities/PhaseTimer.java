@@ -0,0 +1,214 @@
+package com.exampleautomation.utilities;
+
+import com.exampleautomation.utilities.enums.Phase;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Attributes wall time of the current thread to {@link Phase}s.
+ * </p><p>
+ * A recording is started per test (see PhaseTimingListener in the test sources), framework code marks its phases with
+ * {@link #start(Phase)} or {@link #measure(Phase, Supplier)}. Nested phases are attributed exclusively:
+ * a {@link Phase#WAIT} inside of {@link Phase#PAGE_ACTION} is subtracted from the page action.
+ * </p><p>
+ * When nothing is recording on the current thread all methods are no-ops. Work handed to other threads is attributed
+ * to the recording of the calling thread when wrapped with {@link #propagate(Supplier)}.
+ * </p>
+ */
+public class PhaseTimer {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static final Scope NO_OP = new Scope(null, null);
+
+    private PhaseTimer(){
+
+    }
+
+    /**
+     * Starts a new recording on the current thread, replacing the previous one
+     *
+     * @return recording handle, see {@link Recording#stop()}
+     */
+    public static Recording startRecording(){
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    public static boolean isRecording(){
+        Recording recording = CURRENT.get();
+        return recording != null && !recording.stopped;
+    }
+
+    /**
+     * Opens a phase on the current thread. Use with try-with-resources:
+     * <pre>
+     * try (PhaseTimer.Scope ignored = PhaseTimer.start(Phase.WAIT)) {
+     *     ...
+     * }
+     * </pre>
+     *
+     * @param phase phase to attribute the time to
+     *
+     * @return scope that closes the phase
+     */
+    public static Scope start(Phase phase){
+        Recording recording = CURRENT.get();
+        if(recording == null || recording.stopped){
+            return NO_OP;
+        }
+        return new Scope(recording, recording.open(phase));
+    }
+
+    public static void measure(Phase phase, Runnable action){
+        try (Scope ignored = start(phase)) {
+            action.run();
+        }
+    }
+
+    public static <T> T measure(Phase phase, Supplier<T> action){
+        try (Scope ignored = start(phase)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Wraps an action that runs on another thread, e.g. in {@link AsyncActions}, so its phases are added to the recording
+     * of the calling thread. Actions running in parallel are each counted in full, so phases can add up to more than the
+     * wall time of the recording.
+     *
+     * @param action action to run on another thread
+     *
+     * @return wrapped action, the action itself when nothing is recording on the calling thread
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> action){
+        Recording parent = CURRENT.get();
+        if(parent == null || parent.stopped){
+            return action;
+        }
+        return () -> {
+            Recording previous = CURRENT.get();
+            CURRENT.set(new Recording(parent));
+            try {
+                return action.get();
+            } finally {
+                if(previous == null){
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Phase times of a single thread between {@link #startRecording()} and {@link #stop()}
+     */
+    public static final class Recording {
+        private final long startNanos = System.nanoTime();
+        /**
+         * Recording of the thread that handed the work over, see {@link #propagate(Supplier)}
+         */
+        private final Recording parent;
+        private final long[] totals = new long[Phase.values().length];
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private volatile boolean stopped;
+        private long wallNanos;
+
+        private Recording(){
+            this(null);
+        }
+
+        private Recording(Recording parent){
+            this.parent = parent;
+        }
+
+        /**
+         * Stops the recording. Can be called from any thread, phases still open are not counted.
+         *
+         * @return time per phase, {@link Phase#OTHER} holds the wall time not covered by any phase
+         */
+        public synchronized Map<Phase, Duration> stop(){
+            if(!stopped){
+                stopped = true;
+                wallNanos = System.nanoTime() - startNanos;
+            }
+            Map<Phase, Duration> result = new EnumMap<>(Phase.class);
+            long attributed = 0;
+            for(Phase phase : Phase.values()){
+                if(phase != Phase.OTHER){
+                    attributed += totals[phase.ordinal()];
+                    result.put(phase, Duration.ofNanos(totals[phase.ordinal()]));
+                }
+            }
+            result.put(Phase.OTHER, Duration.ofNanos(Math.max(0, wallNanos - attributed)));
+            return result;
+        }
+
+        public synchronized Duration getWallTime(){
+            return Duration.ofNanos(stopped ? wallNanos : System.nanoTime() - startNanos);
+        }
+
+        private synchronized Frame open(Phase phase){
+            Frame frame = new Frame(phase, System.nanoTime());
+            frames.push(frame);
+            return frame;
+        }
+
+        private synchronized void close(Frame frame){
+            if(stopped || frames.peek() != frame){
+                return;
+            }
+            frames.pop();
+            long elapsed = System.nanoTime() - frame.startNanos;
+            totals[frame.phase.ordinal()] += elapsed - frame.childNanos;
+            Frame enclosing = frames.peek();
+            if(enclosing != null){
+                enclosing.childNanos += elapsed;
+            }
+            if(parent != null){
+                parent.add(frame.phase, elapsed - frame.childNanos);
+            }
+        }
+
+        private synchronized void add(Phase phase, long nanos){
+            if(!stopped){
+                totals[phase.ordinal()] += nanos;
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Recording recording;
+        private final Frame frame;
+
+        private Scope(Recording recording, Frame frame){
+            this.recording = recording;
+            this.frame = frame;
+        }
+
+        @Override
+        public void close(){
+            if(recording != null){
+                recording.close(frame);
+            }
+        }
+    }
+
+    private static final class Frame {
+        private final Phase phase;
+        private final long startNanos;
+        private long childNanos;
+
+        private Frame(Phase phase, long startNanos){
+            this.phase = phase;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.exampleautomation.utilities;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Properties;
 
 public class ReadProperties {
@@ -25,4 +26,52 @@ public class ReadProperties {
         String prop = props.getProperty(key);
         return (prop != null) ? prop.trim() : null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads the property, giving precedence to a JVM system property with the same key (e.g. -Dkey=value in CI)
+     *
+     * @param key property key
+     * @param defaultValue value returned when the key is set neither as system property nor in resources.properties
+     *
+     * @return trimmed property value or defaultValue
+     */
+    public static String getProp(String key, String defaultValue){
+        String prop = System.getProperty(key);
+        if(prop == null){
+            prop = getProp(key);
+        }
+        return (prop != null && !prop.isBlank()) ? prop.trim() : defaultValue;
+    }
+
+    /**
+     * @param key property key, see {@link #getProp(String, String)}
+     * @param defaultValue duration used when the key is not set, e.g. "10s"
+     *
+     * @return the property parsed by {@link #parseDuration(String)}
+     */
+    public static Duration getDuration(String key, String defaultValue){
+        return parseDuration(getProp(key, defaultValue));
+    }
+
+    /**
+     * @param value duration with unit: 500ms, 1.5s, 2m, or a plain number of seconds
+     *
+     * @return parsed duration, null for a null or blank value
+     */
+    public static Duration parseDuration(String value){
+        if(value == null || value.isBlank()){
+            return null;
+        }
+        String duration = value.trim().toLowerCase();
+        if(duration.endsWith("ms")){
+            return Duration.ofMillis(Long.parseLong(duration.substring(0, duration.length() - 2).trim()));
+        }
+        if(duration.endsWith("s")){
+            return Duration.ofMillis(Math.round(Double.parseDouble(duration.substring(0, duration.length() - 1).trim()) * 1000));
+        }
+        if(duration.endsWith("m")){
+            return Duration.ofMillis(Math.round(Double.parseDouble(duration.substring(0, duration.length() - 1).trim()) * 60_000));
+        }
+        return Duration.ofMillis(Math.round(Double.parseDouble(duration) * 1000));
+    }
+}
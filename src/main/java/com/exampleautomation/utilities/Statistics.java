@@ -0,0 +1,36 @@
+package com.exampleautomation.utilities;
+
+import java.util.Collection;
+
+public class Statistics {
+
+    private Statistics(){
+
+    }
+
+    /**
+     * Nearest-rank percentile
+     *
+     * @param values samples, not required to be sorted
+     * @param percentile percentile in range (0, 100], e.g. 95 for p95
+     *
+     * @return value at the percentile, 0 for empty samples
+     */
+    public static long percentile(Collection<Long> values, double percentile){
+        if(values.isEmpty()){
+            return 0;
+        }
+        long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(Math.max(rank, 1), sorted.length) - 1];
+    }
+
+    /**
+     * @param values samples
+     *
+     * @return arithmetic mean, 0 for empty samples
+     */
+    public static double mean(Collection<Long> values){
+        return values.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+}
@@ -0,0 +1,223 @@
+package com.exampleautomation.utilities;
+
+import com.github.javafaker.Faker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>
+ * Fake identities generated ahead of time, so tests do not call javafaker on the hot path.
+ * </p><p>
+ * The pool is generated in parallel chunks of {@value #CHUNK_SIZE} records, chunk n uses a Faker seeded with
+ * "testdata.seed" + n, so the same seed, size and locale always give the same records in the same order, whatever the
+ * number of threads. Generated pools are cached as gzipped tab separated lines in "testdata.cacheDir"
+ * (target/test-data by default) and read back by later runs. The cache file name holds the format and javafaker
+ * versions, so upgrading javafaker generates the pool again instead of reusing records it would no longer produce.
+ * </p><p>
+ * {@link #next()} hands every record out once across all threads, {@link #get(int)} picks a fixed record.
+ * </p>
+ */
+public class TestDataPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TestDataPool.class);
+    private static final int CHUNK_SIZE = 250;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FAKER_VERSION = fakerVersion();
+    private static volatile TestDataPool shared;
+
+    private final List<Identity> identities;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * Fake person with login credentials
+     */
+    public record Identity(String firstName, String lastName, String username, String email, String password) {
+
+        private String toLine() {
+            return String.join("\t", clean(firstName), clean(lastName), clean(username), clean(email), clean(password));
+        }
+
+        private static Identity fromLine(String line) {
+            String[] fields = line.split("\t", -1);
+            return new Identity(fields[0], fields[1], fields[2], fields[3], fields[4]);
+        }
+
+        private static String clean(String value) {
+            return value.replace('\t', ' ').replace('\n', ' ');
+        }
+    }
+
+    private TestDataPool(List<Identity> identities) {
+        this.identities = identities;
+    }
+
+    /**
+     * @return pool shared by all tests, configured by "testdata.seed" (42), "testdata.poolSize" (1000) and
+     * "testdata.locale" (en)
+     */
+    public static TestDataPool shared(){
+        TestDataPool pool = shared;
+        if(pool == null){
+            synchronized (TestDataPool.class) {
+                pool = shared;
+                if(pool == null){
+                    pool = load(Long.parseLong(ReadProperties.getProp("testdata.seed", "42")),
+                            Integer.parseInt(ReadProperties.getProp("testdata.poolSize", "1000")),
+                            Locale.forLanguageTag(ReadProperties.getProp("testdata.locale", "en")),
+                            Path.of(ReadProperties.getProp("testdata.cacheDir", "target/test-data")));
+                    shared = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * @param seed seed of the first chunk
+     * @param size number of identities
+     * @param locale faker locale
+     * @param cacheDir directory of the cached pools
+     *
+     * @return cached pool of the same seed, size and locale, generated and cached when missing
+     */
+    public static TestDataPool load(long seed, int size, Locale locale, Path cacheDir){
+        Path file = cacheDir.resolve(String.format("identities-v%d-faker-%s-%s-%d-%d.tsv.gz", FORMAT_VERSION,
+                FAKER_VERSION, locale.toLanguageTag(), seed, size));
+        if(Files.exists(file)){
+            try {
+                List<Identity> identities = read(file);
+                if(identities.size() == size){
+                    LOG.info("Loaded {} test identities from [{}]", size, file);
+                    return new TestDataPool(identities);
+                }
+                LOG.warn("Cached test data [{}] has {} instead of {} records, generating again", file, identities.size(), size);
+            } catch (IOException | RuntimeException e){
+                LOG.warn("Could not read cached test data [{}], generating again: {}", file, e.getMessage());
+            }
+        }
+        long start = System.nanoTime();
+        List<Identity> identities = generate(seed, size, locale);
+        LOG.info("Generated {} test identities in {} ms", size, (System.nanoTime() - start) / 1_000_000);
+        try {
+            write(file, identities);
+        } catch (IOException e){
+            LOG.warn("Could not cache test data [{}]: {}", file, e.getMessage());
+        }
+        return new TestDataPool(identities);
+    }
+
+    /**
+     * @return next identity not handed out before
+     *
+     * @throws IllegalStateException when every identity was handed out, raise "testdata.poolSize"
+     */
+    public Identity next(){
+        int index = nextIndex.getAndIncrement();
+        if(index >= identities.size()){
+            throw new IllegalStateException("All " + identities.size() + " test identities are used, raise testdata.poolSize");
+        }
+        return identities.get(index);
+    }
+
+    /**
+     * @param index record number
+     *
+     * @return the same identity for the same index, seed and locale
+     */
+    public Identity get(int index){
+        return identities.get(index);
+    }
+
+    public int size(){
+        return identities.size();
+    }
+
+    private static List<Identity> generate(long seed, int size, Locale locale){
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> generateChunk(new Faker(locale, new Random(seed + chunk)),
+                        Math.min(CHUNK_SIZE, size - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Identity> generateChunk(Faker faker, int count){
+        List<Identity> chunk = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = faker.name().firstName();
+            String lastName = faker.name().lastName();
+            String username = faker.name().username();
+            chunk.add(new Identity(firstName, lastName, username, faker.internet().emailAddress(username),
+                    faker.internet().password(8, 16)));
+        }
+        return chunk;
+    }
+
+    /**
+     * @return version of the javafaker jar on the classpath, "unknown" when it has no version information
+     */
+    private static String fakerVersion(){
+        String version = Faker.class.getPackage().getImplementationVersion();
+        if(version != null){
+            return version;
+        }
+        try (InputStream pom =
+                     Faker.class.getResourceAsStream("/META-INF/maven/com.github.javafaker/javafaker/pom.properties")) {
+            if(pom != null){
+                Properties properties = new Properties();
+                properties.load(pom);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException e){
+            LOG.warn("Could not read the javafaker version: {}", e.getMessage());
+        }
+        return "unknown";
+    }
+
+    private static List<Identity> read(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().map(Identity::fromLine).collect(Collectors.toList());
+        } catch (UncheckedIOException e){
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Written to a temporary file first, so parallel workers never read a half written pool
+     */
+    private static void write(Path file, List<Identity> identities) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(tmp)), StandardCharsets.UTF_8))) {
+            for (Identity identity : identities) {
+                writer.write(identity.toLine());
+                writer.newLine();
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
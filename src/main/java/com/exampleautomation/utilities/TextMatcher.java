@@ -0,0 +1,130 @@
+package com.exampleautomation.utilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds any number of patterns in a text in one pass (Aho-Corasick automaton).
+ * Build once per set of patterns, the matcher is immutable and can be shared between threads.
+ * Overlapping patterns (e.g. "he", "she" and "hers" in "ushers") are all found, {@link #ignoringCase(String...)} builds a
+ * matcher that compares case-folded characters.
+ */
+public class TextMatcher {
+
+    private final List<String> patterns;
+    private final boolean ignoreCase;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    private final List<BitSet> outputs = new ArrayList<>();
+
+    public TextMatcher(String... patterns) {
+        this(false, patterns);
+    }
+
+    private TextMatcher(boolean ignoreCase, String... patterns) {
+        this.patterns = List.of(patterns);
+        this.ignoreCase = ignoreCase;
+        addNode();
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].isEmpty()) {
+                throw new IllegalArgumentException("Empty pattern is not supported");
+            }
+            int node = 0;
+            for (char pc : patterns[i].toCharArray()) {
+                char c = fold(pc);
+                Integer next = transitions.get(node).get(c);
+                if (next == null) {
+                    next = addNode();
+                    transitions.get(node).put(c, next);
+                }
+                node = next;
+            }
+            outputs.get(node).set(i);
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * @param patterns texts to look for
+     *
+     * @return matcher that ignores case, found patterns are reported as passed
+     */
+    public static TextMatcher ignoringCase(String... patterns) {
+        return new TextMatcher(true, patterns);
+    }
+
+    /**
+     * @param text text to search in
+     *
+     * @return patterns found in the text, in the order they were passed to the constructor
+     */
+    public Set<String> findAll(CharSequence text) {
+        BitSet found = new BitSet(patterns.size());
+        int node = 0;
+        for (int i = 0; i < text.length() && found.cardinality() < patterns.size(); i++) {
+            node = step(node, text.charAt(i));
+            found.or(outputs.get(node));
+        }
+        Set<String> result = new LinkedHashSet<>();
+        found.stream().forEach(index -> result.add(patterns.get(index)));
+        return result;
+    }
+
+    /**
+     * @param text text to search in
+     *
+     * @return true if at least one of the patterns is in the text
+     */
+    public boolean containsAny(CharSequence text) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, text.charAt(i));
+            if (!outputs.get(node).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int step(int node, char textChar) {
+        char c = fold(textChar);
+        Integer next = transitions.get(node).get(c);
+        while (next == null && node != 0) {
+            node = failures.get(node);
+            next = transitions.get(node).get(c);
+        }
+        return next != null ? next : 0;
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+
+    private int addNode() {
+        transitions.add(new HashMap<>());
+        failures.add(0);
+        outputs.add(new BitSet());
+        return transitions.size() - 1;
+    }
+
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(node).entrySet()) {
+                int child = transition.getValue();
+                int failure = node == 0 ? 0 : step(failures.get(node), transition.getKey());
+                failures.set(child, failure == child ? 0 : failure);
+                outputs.get(child).or(outputs.get(failures.get(child)));
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.exampleautomation.utilities;
 
 
+import com.exampleautomation.utilities.enums.Phase;
+import com.exampleautomation.utilities.replay.ReplayCommandExecutor;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.exampleautomation.utilities.Waiter.Timeout.DEFAULT_TIME_OUT;
 
@@ -44,7 +51,152 @@ public class Waiter {
         }
     }
 
+    /**
+     * Result of {@link Waiter#waitForAnyOutcome(WebDriver, Map, Timeout)}
+     *
+     * @param name name of the outcome that appeared first
+     * @param element its visible element
+     */
+    public record Outcome(String name, WebElement element) {
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(Waiter.class);
+    private static final String FIND_FIRST_VISIBLE_SCRIPT = """
+            var locators = arguments[0];
+            function visible(el) {
+              return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)
+                && window.getComputedStyle(el).visibility !== 'hidden';
+            }
+            function find(type, value) {
+              switch (type) {
+                case 'xpath':
+                  var found = [], snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  for (var i = 0; i < snapshot.snapshotLength; i++) { found.push(snapshot.snapshotItem(i)); }
+                  return found;
+                case 'cssSelector': return Array.from(document.querySelectorAll(value));
+                case 'id': var byId = document.getElementById(value); return byId ? [byId] : [];
+                case 'linkText': return Array.from(document.links).filter(function (a) { return a.innerText.trim() === value; });
+              }
+              return [];
+            }
+            for (var i = 0; i < locators.length; i++) {
+              var elements = find(locators[i][0], locators[i][1]);
+              for (var j = 0; j < elements.length; j++) {
+                if (visible(elements[j])) { return [i, elements[j]]; }
+              }
+            }
+            return null;
+            """;
+
+    /**
+     * Single entry point for all waits of this class, attributes the waiting time to {@link Phase#WAIT}
+     * and counts the wait as in flight in {@link FrameworkMetrics}
+     *
+     * @param driver The WebDriver object
+     * @param timeout Timeout from {@link Timeout}
+     * @param condition condition to wait for
+     *
+     * @return the condition's value once it is neither null nor false
+     */
+    private static <T> T waitUntil(WebDriver driver, Timeout timeout, ExpectedCondition<T> condition) {
+        try (PhaseTimer.Scope ignored = PhaseTimer.start(Phase.WAIT);
+             FrameworkMetrics.WaitScope inFlight = FrameworkMetrics.startWait()) {
+            return newWait(driver, timeout).until(condition);
+        }
+    }
+
+    /**
+     * A replayed session is polled without sleeping on the recorded clock, so the wait ends after the same
+     * number of polls as in the recorded run, only in milliseconds
+     */
+    private static WebDriverWait newWait(WebDriver driver, Timeout timeout) {
+        ReplayCommandExecutor replay = ReplayCommandExecutor.of(driver);
+        if (replay != null) {
+            return new WebDriverWait(driver, timeout.getDuration(), Duration.ZERO, replay.getClock(), duration -> { });
+        }
+        return new WebDriverWait(driver, timeout.getDuration());
+    }
+
+    /**
+     * Waits until the first of several outcomes appears, e.g. success page OR error message after submitting a form.
+     * All outcomes are checked in one polling loop, so the wait ends as soon as any of them is visible.
+     * For xpath, css selector, id and link text locators every poll is a single executeScript call,
+     * other locator types fall back to one findElements call per outcome.
+     *
+     * @param driver The WebDriver object
+     * @param outcomes outcome name to the locator of its element, checked in iteration order (use LinkedHashMap or Map.of for single entries)
+     * @param timeout Timeout from {@link Timeout}
+     *
+     * @return the outcome that appeared first with its visible element
+     */
+    public static Outcome waitForAnyOutcome(WebDriver driver, Map<String, By> outcomes, Timeout timeout) {
+        LOG.debug("Wait for any of the outcomes {} for {} seconds", outcomes.keySet(), timeout);
+        List<String> names = new ArrayList<>(outcomes.keySet());
+        List<List<String>> locators = new ArrayList<>();
+        for (By locator : outcomes.values()) {
+            String locatorStr = locator.toString();
+            int separator = locatorStr.indexOf(": ");
+            String type = locatorStr.startsWith("By.") && separator > 0 ? locatorStr.substring(3, separator) : "";
+            if (!List.of("xpath", "cssSelector", "id", "linkText").contains(type) || !(driver instanceof JavascriptExecutor)) {
+                return waitUntil(driver, timeout, anyOutcomeFound(outcomes));
+            }
+            locators.add(List.of(type, locatorStr.substring(separator + 2)));
+        }
+        return waitUntil(driver, timeout, new ExpectedCondition<>() {
+            @Override
+            public Outcome apply(WebDriver webDriver) {
+                Object found = ((JavascriptExecutor) webDriver).executeScript(FIND_FIRST_VISIBLE_SCRIPT, locators);
+                if (found instanceof List<?> result && result.size() == 2) {
+                    return new Outcome(names.get(((Number) result.get(0)).intValue()), (WebElement) result.get(1));
+                }
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return "any of the outcomes to be visible: " + outcomes;
+            }
+        });
+    }
+
+    /**
+     * Waits until the first of several outcomes appears.
+     * See {@link Waiter#waitForAnyOutcome(WebDriver, Map, Timeout)} for method where you can specify another timeout
+     * The default timeout is {@link Timeout#DEFAULT_TIME_OUT}
+     *
+     * @param driver The WebDriver object
+     * @param outcomes outcome name to the locator of its element, checked in iteration order
+     *
+     * @return the outcome that appeared first with its visible element
+     */
+    public static Outcome waitForAnyOutcome(WebDriver driver, Map<String, By> outcomes) {
+        return waitForAnyOutcome(driver, outcomes, DEFAULT_TIME_OUT);
+    }
+
+    private static ExpectedCondition<Outcome> anyOutcomeFound(Map<String, By> outcomes) {
+        return new ExpectedCondition<>() {
+            @Override
+            public Outcome apply(WebDriver webDriver) {
+                for (Map.Entry<String, By> outcome : outcomes.entrySet()) {
+                    for (WebElement element : webDriver.findElements(outcome.getValue())) {
+                        try {
+                            if (element.isDisplayed()) {
+                                return new Outcome(outcome.getKey(), element);
+                            }
+                        } catch (StaleElementReferenceException e) {
+                            // the page is changing, check again on the next poll
+                        }
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return "any of the outcomes to be visible: " + outcomes;
+            }
+        };
+    }
 
     /**
      * Waits for the element to be clickable, returning the element.
@@ -57,8 +209,7 @@ public class Waiter {
      */
     public static WebElement waitForElementToBeClickable(WebDriver driver, WebElement element, Timeout timeout) {
         LOG.debug("Wait for element to be clickable with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.elementToBeClickable(element)));
+        return waitUntil(driver, timeout, ExpectedConditions.elementToBeClickable(element));
     }
 
     /**
@@ -72,8 +223,7 @@ public class Waiter {
      */
     public static WebElement waitForElementToBeClickable(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for element to be clickable with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.elementToBeClickable(element)));
+        return waitUntil(driver, timeout, ExpectedConditions.elementToBeClickable(element));
     }
 
     /**
@@ -116,8 +266,7 @@ public class Waiter {
      */
     public static WebElement waitForElementToBeVisible(WebDriver driver,WebElement element, Timeout timeout) {
         LOG.debug("Wait for element to be visible with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.visibilityOf(element)));
+        return waitUntil(driver, timeout, ExpectedConditions.visibilityOf(element));
     }
 
     /**
@@ -132,8 +281,7 @@ public class Waiter {
      */
     public static WebElement waitForElementToBeVisible(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for element to be displayed with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.visibilityOfElementLocated(element));
+        return waitUntil(driver, timeout, ExpectedConditions.visibilityOfElementLocated(element));
     }
 
     /**
@@ -175,8 +323,7 @@ public class Waiter {
      */
     public static List<WebElement> waitForAllElementsToBeVisible(WebDriver driver, List<WebElement> elements, Timeout timeout) {
         LOG.debug("Wait for all elements to be displayed with locator: '{}' for {} seconds", elements, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.visibilityOfAllElements(elements));
+        return waitUntil(driver, timeout, ExpectedConditions.visibilityOfAllElements(elements));
     }
 
     /**
@@ -190,8 +337,7 @@ public class Waiter {
      */
     public static List<WebElement> waitForAllElementsToBeVisible(WebDriver driver, Timeout timeout, WebElement... elements) {
         LOG.debug("Wait for all elements to be displayed with locator: '{}' for {} seconds", elements, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.visibilityOfAllElements(elements));
+        return waitUntil(driver, timeout, ExpectedConditions.visibilityOfAllElements(elements));
     }
 
     /**
@@ -231,8 +377,7 @@ public class Waiter {
      */
     public static List<WebElement> waitForAllElementsToBeVisible(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for all elements to be displayed with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.visibilityOfAllElementsLocatedBy(element));
+        return waitUntil(driver, timeout, ExpectedConditions.visibilityOfAllElementsLocatedBy(element));
     }
 
     /**
@@ -259,8 +404,7 @@ public class Waiter {
      */
     public static Boolean waitForElementToBeInvisible(WebDriver driver, WebElement element, Timeout timeout) {
         LOG.debug("Wait for element to NOT be displayed with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.invisibilityOf(element));
+        return waitUntil(driver, timeout, ExpectedConditions.invisibilityOf(element));
     }
 
     /**
@@ -274,8 +418,7 @@ public class Waiter {
      */
     public static Boolean waitForElementToBeInvisible(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for element to NOT be displayed with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.invisibilityOfElementLocated(element));
+        return waitUntil(driver, timeout, ExpectedConditions.invisibilityOfElementLocated(element));
     }
 
     /**
@@ -315,8 +458,7 @@ public class Waiter {
      * @return Boolean true when all elements are not visible anymore, false otherwise
      */
     public static Boolean waitForElementsToBeInvisible(WebDriver driver, List<WebElement> elements, Timeout timeout) {
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.invisibilityOfAllElements(elements));
+        return waitUntil(driver, timeout, ExpectedConditions.invisibilityOfAllElements(elements));
     }
 
     /**
@@ -344,8 +486,7 @@ public class Waiter {
      */
     public static WebElement waitForElementToBePresent(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for element to be present with locator: '{}' for {} seconds", element, timeout);
-        return (new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.presenceOfElementLocated(element)));
+        return waitUntil(driver, timeout, ExpectedConditions.presenceOfElementLocated(element));
     }
 
     /**
@@ -373,8 +514,7 @@ public class Waiter {
      * @return the WebElement once it is present, empty list if elements were not found
      */
     public static List<WebElement> waitForAllElementsToBePresent(WebDriver driver, By element, Timeout timeout) {
-        return (new WebDriverWait(driver, timeout.getDuration()))
-                .until(ExpectedConditions.presenceOfAllElementsLocatedBy(element));
+        return waitUntil(driver, timeout, ExpectedConditions.presenceOfAllElementsLocatedBy(element));
     }
 
     /**
@@ -401,8 +541,7 @@ public class Waiter {
      * @return false if the element is still attached to the DOM, true otherwise.
      */
     public static Boolean waitForElementToBeNotPresent(WebDriver driver, WebElement element, Timeout timeout) {
-        return (new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.stalenessOf(element)));
+        return waitUntil(driver, timeout, ExpectedConditions.stalenessOf(element));
     }
 
     /**
@@ -432,8 +571,7 @@ public class Waiter {
      */
     public static Boolean waitForElementToBeSelected(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for element to be present with locator: '{}' for {} seconds", element, timeout);
-        return new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.elementToBeSelected(element));
+        return waitUntil(driver, timeout, ExpectedConditions.elementToBeSelected(element));
     }
 
     /**
@@ -464,8 +602,7 @@ public class Waiter {
      */
     public static Boolean waitForElementToBeNotSelected(WebDriver driver, By element, Timeout timeout) {
         LOG.debug("Wait for element to be present with locator: '{}' for {} seconds", element, timeout);
-        return new WebDriverWait(driver, timeout.getDuration())
-                .until(ExpectedConditions.elementSelectionStateToBe(element, false));
+        return waitUntil(driver, timeout, ExpectedConditions.elementSelectionStateToBe(element, false));
     }
 
     /**
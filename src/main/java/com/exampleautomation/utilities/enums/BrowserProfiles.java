@@ -0,0 +1,47 @@
+package com.exampleautomation.utilities.enums;
+
+
+/**
+ * Option profiles applied by {@link com.exampleautomation.utilities.DriverFactory} to every browser type
+ */
+public enum BrowserProfiles {
+    /**
+     * Browser defaults, maximized window
+     */
+    DEFAULT("default", false, false),
+    /**
+     * Headless with fixed window size
+     */
+    HEADLESS("headless", true, false),
+    /**
+     * Headless, fixed window size, no extensions, GPU, background networking, sync, first-run and default browser checks
+     */
+    FAST("fast", true, true);
+
+    final String text;
+    private final boolean headless;
+    private final boolean stripped;
+
+    BrowserProfiles(String text, boolean headless, boolean stripped) {
+        this.text = text;
+        this.headless = headless;
+        this.stripped = stripped;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public boolean isStripped() {
+        return stripped;
+    }
+
+    public static BrowserProfiles fromString(String s){
+        for(BrowserProfiles profile : BrowserProfiles.values()){
+            if (profile.text.equalsIgnoreCase(s)){
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("No browser profile found for: " + s);
+    }
+}
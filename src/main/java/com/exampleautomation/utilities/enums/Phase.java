@@ -0,0 +1,17 @@
+package com.exampleautomation.utilities.enums;
+
+/**
+ * Phases that wall time of a test method is attributed to by {@link com.exampleautomation.utilities.PhaseTimer}
+ */
+public enum Phase {
+    DRIVER_START,
+    NAVIGATION,
+    WAIT,
+    PAGE_ACTION,
+    ASSERTION,
+    DRIVER_QUIT,
+    /**
+     * Time not covered by any other phase (test logic, logging, listeners)
+     */
+    OTHER
+}
@@ -0,0 +1,300 @@
+package com.exampleautomation.utilities.remote;
+
+import com.exampleautomation.utilities.CommandTransport;
+import com.exampleautomation.utilities.ReadProperties;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Starts {@link RemoteWebDriver} sessions on a list of nodes (Selenium Grid / standalone servers or plain driver
+ * processes) with client side capacity tracking.
+ * </p><p>
+ * Configured with "remote.nodes=http://host1:4444@4,http://host2:4444@2" - node url and the number of sessions it takes
+ * (1 when omitted). A new session goes to the healthy node with the lowest load (active / capacity), when every node is
+ * full the caller waits up to "remote.acquireTimeout" (5m by default) for a session to quit.
+ * </p><p>
+ * Nodes are checked with GET /status before use. A node that refuses a session, is unreachable or reports
+ * "ready": false is skipped, the session is started on the next node and the node is checked again after
+ * "remote.healthCheckInterval" (30s by default).
+ * </p>
+ */
+public class RemoteNodePool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteNodePool.class);
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<Node> nodes;
+    private final Duration acquireTimeout;
+    private final Duration healthCheckInterval;
+    private final HttpClient statusClient = HttpClient.newBuilder().connectTimeout(STATUS_TIMEOUT).build();
+
+    /**
+     * One remote endpoint, counters are guarded by the pool
+     */
+    public static final class Node {
+        private final URL url;
+        private final int capacity;
+        private int activeSessions;
+        private boolean healthy = true;
+        private long checkedAtNanos;
+        private boolean checked;
+
+        public Node(URL url, int capacity) {
+            if(capacity < 1){
+                throw new IllegalArgumentException("Node capacity has to be at least 1: " + url);
+            }
+            this.url = url;
+            this.capacity = capacity;
+        }
+
+        public URL getUrl() {
+            return url;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        private double load() {
+            return (double) activeSessions / capacity;
+        }
+
+        @Override
+        public String toString() {
+            return url + " (" + activeSessions + "/" + capacity + (healthy ? "" : ", unhealthy") + ")";
+        }
+    }
+
+    public RemoteNodePool(List<Node> nodes, Duration acquireTimeout, Duration healthCheckInterval) {
+        if(nodes.isEmpty()){
+            throw new IllegalArgumentException("No remote nodes configured");
+        }
+        this.nodes = List.copyOf(nodes);
+        this.acquireTimeout = acquireTimeout;
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    /**
+     * @return pool of the "remote.nodes" property, null when not set
+     */
+    public static RemoteNodePool fromProperties(){
+        String configured = ReadProperties.getProp("remote.nodes", null);
+        if(configured == null || configured.isBlank()){
+            return null;
+        }
+        List<Node> nodes = new ArrayList<>();
+        for (String entry : configured.trim().split("\\s*,\\s*")) {
+            int separator = entry.lastIndexOf('@');
+            String url = separator > 0 ? entry.substring(0, separator) : entry;
+            int capacity = separator > 0 ? Integer.parseInt(entry.substring(separator + 1)) : 1;
+            nodes.add(new Node(toUrl(url), capacity));
+        }
+        return new RemoteNodePool(nodes,
+                Duration.ofSeconds(Long.parseLong(ReadProperties.getProp("remote.acquireTimeout", "300"))),
+                Duration.ofSeconds(Long.parseLong(ReadProperties.getProp("remote.healthCheckInterval", "30"))));
+    }
+
+    /**
+     * Starts a session on the least loaded healthy node, failing over to the other nodes when it is refused.
+     * Quitting the returned driver frees the node's capacity.
+     *
+     * @param capabilities browser options
+     *
+     * @return remote session
+     *
+     * @throws SessionNotCreatedException when every node refused the session or no capacity was freed within the
+     * acquire timeout
+     */
+    public WebDriver newDriver(Capabilities capabilities){
+        Set<Node> refused = new HashSet<>();
+        WebDriverException lastError = null;
+        while (true) {
+            refreshHealth(refused);
+            Node node = acquire(refused);
+            if(node == null){
+                throw new SessionNotCreatedException("No healthy remote node accepted the session: " + nodes, lastError);
+            }
+            try {
+                long start = System.nanoTime();
+                NodeDriver driver = new NodeDriver(this, node, capabilities);
+                LOG.info("Session {} started on {} in {} ms", driver.getSessionId(), node,
+                        (System.nanoTime() - start) / 1_000_000);
+                return driver;
+            } catch (WebDriverException e){
+                LOG.warn("Node {} refused the session, failing over: {}", node.url, firstLine(e.getMessage()));
+                lastError = e;
+                refused.add(node);
+                release(node, false);
+            }
+        }
+    }
+
+    /**
+     * @param url node url
+     *
+     * @return sessions currently running on the node
+     */
+    public synchronized int getActiveSessions(URL url){
+        return nodes.stream().filter(node -> node.url.equals(url)).mapToInt(node -> node.activeSessions).sum();
+    }
+
+    /**
+     * Waits for the least loaded healthy node with free capacity and reserves a session on it
+     *
+     * @return reserved node, null when every healthy node already refused this request
+     */
+    private synchronized Node acquire(Set<Node> refused){
+        long deadline = System.nanoTime() + acquireTimeout.toNanos();
+        while (true) {
+            List<Node> candidates = nodes.stream().filter(node -> node.healthy && !refused.contains(node)).toList();
+            if(candidates.isEmpty()){
+                return null;
+            }
+            Node leastLoaded = candidates.stream()
+                    .filter(node -> node.activeSessions < node.capacity)
+                    .min(Comparator.comparingDouble(Node::load))
+                    .orElse(null);
+            if(leastLoaded != null){
+                leastLoaded.activeSessions++;
+                return leastLoaded;
+            }
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0){
+                throw new SessionNotCreatedException("No remote node has free capacity after " + acquireTimeout + ": " + nodes);
+            }
+            try {
+                wait(Math.max(1, remaining / 1_000_000));
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                throw new SessionNotCreatedException("Interrupted while waiting for a remote node", e);
+            }
+        }
+    }
+
+    private synchronized void release(Node node, boolean healthy){
+        node.activeSessions--;
+        if(!healthy){
+            node.healthy = false;
+            node.checked = true;
+            node.checkedAtNanos = System.nanoTime();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Checks nodes that were never checked or whose last failed check is older than the health check interval,
+     * outside the pool lock so a slow node does not block other threads
+     */
+    private void refreshHealth(Set<Node> refused){
+        List<Node> due = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Node node : nodes) {
+                if(!refused.contains(node) && (!node.checked
+                        || (!node.healthy && now - node.checkedAtNanos > healthCheckInterval.toNanos()))){
+                    due.add(node);
+                }
+            }
+        }
+        for (Node node : due) {
+            boolean healthy = isReady(node);
+            synchronized (this) {
+                node.healthy = healthy;
+                node.checked = true;
+                node.checkedAtNanos = System.nanoTime();
+                notifyAll();
+            }
+        }
+    }
+
+    private boolean isReady(Node node){
+        String status = node.url.toString().replaceAll("/+$", "") + "/status";
+        try {
+            HttpResponse<String> response = statusClient.send(HttpRequest.newBuilder(URI.create(status))
+                    .timeout(STATUS_TIMEOUT).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if(response.statusCode() != 200){
+                LOG.warn("Node {} is unhealthy: status {}", node.url, response.statusCode());
+                return false;
+            }
+            Object value = new Json().toType(response.body(), Map.class).get("value");
+            if(value instanceof Map<?, ?> map && Boolean.FALSE.equals(map.get("ready"))){
+                LOG.warn("Node {} is not ready: {}", node.url, map.get("message"));
+                return false;
+            }
+            return true;
+        } catch (IOException | RuntimeException e){
+            LOG.warn("Node {} is unreachable: {}", node.url, e.getMessage());
+            return false;
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static URL toUrl(String url){
+        try {
+            return URI.create(url).toURL();
+        } catch (IllegalArgumentException | IOException e){
+            throw new IllegalArgumentException("Invalid remote node url: " + url, e);
+        }
+    }
+
+    private static String firstLine(String message){
+        if(message == null){
+            return "";
+        }
+        int newLine = message.indexOf('\n');
+        return newLine < 0 ? message : message.substring(0, newLine);
+    }
+
+    /**
+     * Remote session that frees its node's capacity on quit
+     */
+    private static final class NodeDriver extends RemoteWebDriver {
+        private final RemoteNodePool pool;
+        private final Node node;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private NodeDriver(RemoteNodePool pool, Node node, Capabilities capabilities) {
+            super(new HttpCommandExecutor(CommandTransport.clientConfig().baseUrl(node.url)), capabilities);
+            this.pool = pool;
+            this.node = node;
+        }
+
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                // quit() is also called by the RemoteWebDriver constructor when the session is refused,
+                // before the fields are set, the capacity is released by newDriver in that case
+                if(released != null && released.compareAndSet(false, true)){
+                    pool.release(node, true);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.exampleautomation.utilities.replay;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One WebDriver command with its response as stored in a recording, one JSON line per command
+ */
+final class RecordedCommand {
+
+    private static final Json JSON = new Json();
+
+    private RecordedCommand(){
+
+    }
+
+    static Map<String, Object> toLine(long atMillis, Command command, Response response){
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("at", atMillis);
+        line.put("command", command.getName());
+        line.put("parameters", serializeParameters(command));
+        line.put("sessionId", response.getSessionId());
+        line.put("status", response.getStatus());
+        line.put("state", response.getState());
+        if(response.getValue() instanceof Throwable error){
+            Map<String, Object> serializedError = new LinkedHashMap<>();
+            serializedError.put("class", error.getClass().getName());
+            serializedError.put("message", error.getMessage());
+            line.put("error", serializedError);
+        } else {
+            line.put("value", response.getValue());
+        }
+        return line;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Response toResponse(Map<String, Object> line){
+        Response response = new Response();
+        response.setSessionId((String) line.get("sessionId"));
+        if(line.get("status") instanceof Number status){
+            response.setStatus(status.intValue());
+        }
+        response.setState((String) line.get("state"));
+        Map<String, Object> error = (Map<String, Object>) line.get("error");
+        response.setValue(error != null
+                ? toException((String) error.get("class"), (String) error.get("message"))
+                : line.get("value"));
+        return response;
+    }
+
+    /**
+     * @return parameters as JSON string, elements are written as references and so are comparable between runs
+     */
+    static String serializeParameters(Command command){
+        try {
+            return JSON.toJson(command.getParameters());
+        } catch (JsonException e){
+            return String.valueOf(command.getParameters());
+        }
+    }
+
+    /**
+     * Restores the exception class, so that e.g. {@link org.openqa.selenium.support.ui.WebDriverWait}
+     * keeps ignoring NoSuchElementException during replay
+     */
+    private static WebDriverException toException(String className, String message){
+        try {
+            Class<?> type = Class.forName(className);
+            if(WebDriverException.class.isAssignableFrom(type)){
+                Constructor<?> constructor = type.getConstructor(String.class);
+                return (WebDriverException) constructor.newInstance(message);
+            }
+        } catch (ReflectiveOperationException e){
+            // fall through to the generic exception
+        }
+        return new WebDriverException(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.exampleautomation.utilities.replay;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decorates a command executor and writes every command with its response (including executeScript results and
+ * page source) to a gzipped JSON-lines file that {@link ReplayCommandExecutor} can serve later
+ */
+public class RecordingCommandExecutor implements CommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RecordingCommandExecutor.class);
+    private static final Json JSON = new Json();
+
+    private final CommandExecutor delegate;
+    private final Path file;
+    private final Writer writer;
+    private final long startNanos = System.nanoTime();
+    private int commands;
+
+    public RecordingCommandExecutor(CommandExecutor delegate, Path file) {
+        this.delegate = delegate;
+        this.file = file;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create recording " + file, e);
+        }
+        LOG.info("Recording WebDriver session to [{}]", file.toAbsolutePath());
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        Response response = delegate.execute(command);
+        write(command, response);
+        if (DriverCommand.QUIT.equals(command.getName())) {
+            close();
+        }
+        return response;
+    }
+
+    private synchronized void write(Command command, Response response) throws IOException {
+        long atMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        StringBuilder line = new StringBuilder();
+        try (JsonOutput output = JSON.newOutput(line)) {
+            output.setPrettyPrint(false).write(RecordedCommand.toLine(atMillis, command, response));
+        }
+        writer.write(line.append('\n').toString());
+        writer.flush();
+        commands++;
+    }
+
+    private synchronized void close() throws IOException {
+        writer.close();
+        LOG.info("Recorded {} commands to [{}]", commands, file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,123 @@
+package com.exampleautomation.utilities.replay;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * <p>
+ * Serves the responses of a {@link RecordingCommandExecutor} recording in order, without launching a browser.
+ * A command that differs from the recorded one fails the replay, differing parameters are only logged.
+ * </p><p>
+ * {@link #getClock()} follows the recorded command times, so waits time out after the same number of polls as in the
+ * recorded run (see Waiter).
+ * </p>
+ */
+public class ReplayCommandExecutor implements CommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplayCommandExecutor.class);
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private final List<Map<String, Object>> lines = new ArrayList<>();
+    private final Instant start = Instant.now();
+    private final Clock clock = new ReplayClock();
+    private int position;
+    private volatile long atMillis;
+
+    public ReplayCommandExecutor(Path file) {
+        this.file = file;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(JSON.toType(line, Json.MAP_TYPE));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read recording " + file, e);
+        }
+        LOG.info("Replaying {} commands from [{}]", lines.size(), file.toAbsolutePath());
+    }
+
+    /**
+     * @param driver The WebDriver object
+     *
+     * @return replay executor of the driver, null if the driver is not replaying
+     */
+    public static ReplayCommandExecutor of(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver remoteDriver
+                && remoteDriver.getCommandExecutor() instanceof ReplayCommandExecutor replay) {
+            return replay;
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized Response execute(Command command) {
+        if (position >= lines.size()) {
+            throw new WebDriverException(String.format("Recording [%s] is exhausted, unexpected command '%s'", file, command.getName()));
+        }
+        Map<String, Object> line = lines.get(position);
+        if (!command.getName().equals(line.get("command"))) {
+            throw new WebDriverException(String.format("Replay of [%s] diverged at command #%d: recorded '%s', got '%s'",
+                    file, position, line.get("command"), command.getName()));
+        }
+        String parameters = RecordedCommand.serializeParameters(command);
+        if (!parameters.equals(line.get("parameters"))) {
+            LOG.warn("Parameters of command #{} '{}' differ from the recording: recorded {}, got {}",
+                    position, command.getName(), line.get("parameters"), parameters);
+        }
+        position++;
+        if (line.get("at") instanceof Number at) {
+            atMillis = at.longValue();
+        }
+        return RecordedCommand.toResponse(line);
+    }
+
+    /**
+     * @return clock that shows the recorded time of the last replayed command
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    private final class ReplayClock extends Clock {
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return start.plusMillis(atMillis);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.exampleautomation.utilities.replay;
+
+import com.exampleautomation.utilities.CommandTransport;
+import com.exampleautomation.utilities.DriverFactory;
+import com.exampleautomation.utilities.ReadProperties;
+import com.exampleautomation.utilities.enums.BrowserProfiles;
+import com.exampleautomation.utilities.enums.DriverTypes;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Starts drivers in "record" and "replay" modes of DriverProvider ("driver.mode" property).
+ * </p><p>
+ * Recordings are named after the test that starts the session (set per thread with {@link #setSessionName(String)},
+ * e.g. by the RecordingSessionListener in the test sources) and stored as
+ * &lt;test&gt;_&lt;Class.method&gt;-1.jsonl.gz in "driver.recording.dir" (target/recordings by default). The number counts
+ * sessions of the same name, e.g. data provider invocations, so replaying the suite picks the matching recording
+ * whatever order parallel threads start their sessions in.
+ * </p>
+ */
+public class SessionRecordings {
+
+    private static final String DEFAULT_SESSION_NAME = "session";
+    private static final ThreadLocal<String> SESSION_NAME = new ThreadLocal<>();
+    private static final Map<String, AtomicInteger> SESSION_COUNTERS = new ConcurrentHashMap<>();
+
+    private SessionRecordings(){
+
+    }
+
+    /**
+     * @param name name of the sessions started by the current thread from now on, e.g. "Smoke test_LoginTests.testLogin",
+     * null to reset it
+     */
+    public static void setSessionName(String name){
+        if(name == null){
+            SESSION_NAME.remove();
+        } else {
+            SESSION_NAME.set(name.replaceAll("[^\\w.-]+", "_"));
+        }
+    }
+
+    /**
+     * @return recording file of the next session of the current thread's session name
+     */
+    public static Path nextSessionFile(){
+        String name = SESSION_NAME.get() != null ? SESSION_NAME.get() : DEFAULT_SESSION_NAME;
+        int number = SESSION_COUNTERS.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+        Path dir = Path.of(ReadProperties.getProp("driver.recording.dir", "target/recordings"));
+        return dir.resolve(String.format("%s-%d.jsonl.gz", name, number));
+    }
+
+    /**
+     * Launches a local browser whose commands are recorded to the file
+     *
+     * @param type browser type
+     * @param profile option profile
+     * @param file recording file
+     *
+     * @return recording WebDriver
+     */
+    public static WebDriver startRecording(DriverTypes type, BrowserProfiles profile, Path file){
+        DriverService service = DriverFactory.createService(type);
+        Capabilities options = DriverFactory.createOptions(type, profile);
+        DriverCommandExecutor executor = new DriverCommandExecutor(service, CommandTransport.clientConfig());
+        return new RemoteWebDriver(new RecordingCommandExecutor(executor, file), options);
+    }
+
+    /**
+     * Serves the recorded session without launching a browser
+     *
+     * @param file recording file
+     *
+     * @return replaying WebDriver
+     */
+    public static WebDriver startReplay(Path file){
+        return new RemoteWebDriver(new ReplayCommandExecutor(file), new MutableCapabilities());
+    }
+}
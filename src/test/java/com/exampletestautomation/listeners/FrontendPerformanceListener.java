@@ -0,0 +1,81 @@
+package com.exampletestautomation.listeners;
+
+import com.exampleautomation.utilities.FrontendPerformanceCollector;
+import com.exampleautomation.utilities.ReadProperties;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Picks up the {@link FrontendPerformanceCollector} snapshots captured during a test, attaches them to the test
+ * result as "frontendPerformance" attribute and appends their key metrics to the time series file
+ * "frontend.performance.timeseriesFile" (frontend-timeseries.jsonl in the report dir by default), one line per capture.
+ * </p><p>
+ * Requires "frontend.performance.enabled=true", otherwise nothing is captured.
+ * </p>
+ */
+public class FrontendPerformanceListener implements ISuiteListener, ITestListener {
+
+    public static final String RESULT_ATTRIBUTE = "frontendPerformance";
+
+    private String runId = Instant.now().toString();
+
+    @Override
+    public void onStart(ISuite suite) {
+        runId = suite.getName() + "@" + Instant.now();
+        FrontendPerformanceCollector.startCollecting();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FrontendPerformanceCollector.stopCollecting();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        collect(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        collect(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        collect(result);
+    }
+
+    private void collect(ITestResult result) {
+        List<FrontendPerformanceCollector.Snapshot> snapshots = FrontendPerformanceCollector.drainSnapshots();
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        result.setAttribute(RESULT_ATTRIBUTE, snapshots);
+        String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        List<Map<String, Object>> lines = snapshots.stream().map(snapshot -> {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("runId", runId);
+            line.put("timestamp", snapshot.capturedAt().toString());
+            line.put("test", test);
+            line.put("label", snapshot.label());
+            line.putAll(snapshot.getSummary());
+            return line;
+        }).collect(Collectors.toList());
+        PerformanceReports.appendJsonLines(getTimeSeriesFile(), lines);
+    }
+
+    private static Path getTimeSeriesFile() {
+        String file = ReadProperties.getProp("frontend.performance.timeseriesFile", null);
+        return file != null ? Path.of(file) : PerformanceReports.reportDir().resolve("frontend-timeseries.jsonl");
+    }
+}
@@ -0,0 +1,48 @@
+package com.exampletestautomation.listeners;
+
+import com.exampleautomation.utilities.FrameworkMetrics;
+import com.exampleautomation.utilities.MetricsEndpoint;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * <p>
+ * Counts finished tests in {@link FrameworkMetrics} and keeps the {@link MetricsEndpoint} up while the suite runs.
+ * </p><p>
+ * Watch a running suite with jconsole (MBean com.exampleautomation:type=FrameworkMetrics) or start it with
+ * -Dmetrics.port=9464 and scrape http://localhost:9464/metrics.
+ * </p>
+ */
+public class MetricsListener implements ISuiteListener, ITestListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        MetricsEndpoint.start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        MetricsEndpoint.stop();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        count(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        count(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        count(result);
+    }
+
+    private void count(ITestResult result) {
+        FrameworkMetrics.testFinished(result.getStatus(), result.wasRetried());
+    }
+}
@@ -0,0 +1,233 @@
+package com.exampletestautomation.listeners;
+
+import com.exampleautomation.utilities.ReadProperties;
+import com.exampleautomation.utilities.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * <p>
+ * Compares test durations against the budgets from performance-budgets.properties and against the stored
+ * p95 baseline (performance-baseline.properties).
+ * </p><p>
+ * Every check fails the test invocation that detects the violation (status and throwable are set in
+ * afterInvocation, before TestNG reports the result), so the failure shows up in every report and in the build result:
+ * <ul>
+ *     <li>an invocation over its method/group budget</li>
+ *     <li>the first invocation of a method whose p95 (over the invocations so far) regressed by more than
+ *     "budget.p95Threshold" (0.2 = 20% by default) against the baseline</li>
+ *     <li>the first invocation finishing after the suite budget is used up</li>
+ * </ul>
+ * With "budget.mode=warn" violations are only logged. All violations are summarised in performance-budgets.json
+ * when the suite finishes. Run with "budget.updateBaseline=true" to store the current p95 values as the new baseline.
+ * </p>
+ */
+public class PerformanceBudgetListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerformanceBudgetListener.class);
+    private static final String BUDGETS_FILE = "/performance-budgets.properties";
+    private static final String REPORT_FILE = "performance-budgets.json";
+
+    private final Properties budgets = loadBudgets();
+    private final Path baselineFile = Path.of(ReadProperties.getProp("budget.baselineFile",
+            "src/test/resources/performance-baseline.properties"));
+    private final Properties baseline = loadBaseline(baselineFile);
+    private final double threshold = Double.parseDouble(ReadProperties.getProp("budget.p95Threshold", "0.2"));
+    private final Map<String, Queue<Long>> durations = new ConcurrentHashMap<>();
+    private final Set<String> regressedMethods = ConcurrentHashMap.newKeySet();
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+    private volatile boolean suiteBudgetExceeded;
+    private long suiteStartNanos;
+
+    @Override
+    public void onStart(ISuite suite) {
+        durations.clear();
+        regressedMethods.clear();
+        violations.clear();
+        suiteBudgetExceeded = false;
+        suiteStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        String name = getName(result);
+        long millis = result.getEndMillis() - result.getStartMillis();
+        Queue<Long> samples = durations.computeIfAbsent(name, k -> new ConcurrentLinkedQueue<>());
+        samples.add(millis);
+
+        Duration budget = getInvocationBudget(result);
+        if (budget != null && millis > budget.toMillis()) {
+            violation(result, String.format("%s took %d ms, budget is %d ms", name, millis, budget.toMillis()));
+        }
+        String baselineP95 = baseline.getProperty(name);
+        if (baselineP95 != null && !regressedMethods.contains(name)) {
+            long p95 = Statistics.percentile(samples, 95);
+            if (p95 > Long.parseLong(baselineP95) * (1 + threshold) && regressedMethods.add(name)) {
+                violation(result, String.format("%s p95 %d ms regressed by more than %.0f%% against baseline %s ms",
+                        name, p95, threshold * 100, baselineP95));
+            }
+        }
+        String suiteFile = getSuiteFile(result.getTestContext().getSuite());
+        Duration suiteBudget = ReadProperties.parseDuration(budgets.getProperty("suite." + suiteFile));
+        long suiteMillis = Duration.ofNanos(System.nanoTime() - suiteStartNanos).toMillis();
+        if (suiteBudget != null && suiteMillis > suiteBudget.toMillis() && !suiteBudgetExceeded) {
+            suiteBudgetExceeded = true;
+            violation(result, String.format("Suite %s has run %d ms when %s finished, budget is %d ms",
+                    suiteFile, suiteMillis, name, suiteBudget.toMillis()));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long suiteMillis = Duration.ofNanos(System.nanoTime() - suiteStartNanos).toMillis();
+        String suiteFile = getSuiteFile(suite);
+        Duration suiteBudget = ReadProperties.parseDuration(budgets.getProperty("suite." + suiteFile));
+        if (suiteBudget != null && suiteMillis > suiteBudget.toMillis() && !suiteBudgetExceeded) {
+            // exceeded after the last test, e.g. in @AfterSuite, there is no test result left to fail
+            violation(null, String.format("Suite %s took %d ms, budget is %d ms", suiteFile, suiteMillis, suiteBudget.toMillis()));
+        }
+
+        Map<String, Object> methods = new TreeMap<>();
+        Map<String, Long> currentP95 = new TreeMap<>();
+        durations.forEach((name, samples) -> {
+            long p95 = Statistics.percentile(samples, 95);
+            currentP95.put(name, p95);
+            String baselineP95 = baseline.getProperty(name);
+            Map<String, Object> method = new LinkedHashMap<>();
+            method.put("invocations", samples.size());
+            method.put("p95Millis", p95);
+            method.put("baselineP95Millis", baselineP95 != null ? Long.parseLong(baselineP95) : null);
+            method.put("regressed", regressedMethods.contains(name));
+            methods.put(name, method);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteFile);
+        report.put("suiteMillis", suiteMillis);
+        report.put("suiteBudgetMillis", suiteBudget != null ? suiteBudget.toMillis() : null);
+        report.put("methods", methods);
+        report.put("violations", new ArrayList<>(violations));
+        PerformanceReports.writeJson(REPORT_FILE, report);
+
+        if (Boolean.parseBoolean(ReadProperties.getProp("budget.updateBaseline", "false"))) {
+            currentP95.forEach((name, p95) -> baseline.setProperty(name, String.valueOf(p95)));
+            storeBaseline(baselineFile, baseline);
+        }
+        if (!violations.isEmpty()) {
+            LOG.error("{} performance budget violation(s) in suite {}:\n{}", violations.size(), suiteFile,
+                    String.join("\n", violations));
+        }
+    }
+
+    /**
+     * @return method budget if declared, otherwise the smallest budget of the method's groups, null if there is none
+     */
+    private Duration getInvocationBudget(ITestResult result) {
+        Duration methodBudget = ReadProperties.parseDuration(budgets.getProperty("method." + getName(result)));
+        if (methodBudget != null) {
+            return methodBudget;
+        }
+        Duration budget = null;
+        for (String group : result.getMethod().getGroups()) {
+            Duration groupBudget = ReadProperties.parseDuration(budgets.getProperty("group." + group));
+            if (groupBudget != null && (budget == null || groupBudget.compareTo(budget) < 0)) {
+                budget = groupBudget;
+            }
+        }
+        return budget;
+    }
+
+    /**
+     * @param result invocation to fail in "fail" mode if it passed so far, null if there is none
+     */
+    private void violation(ITestResult result, String message) {
+        violations.add(message);
+        LOG.warn("Performance budget violation: {}", message);
+        if (result != null && isFailMode() && result.getStatus() == ITestResult.SUCCESS) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Performance budget exceeded: " + message));
+        }
+    }
+
+    private static String getSuiteFile(ISuite suite) {
+        return suite.getXmlSuite().getFileName() != null
+                ? Path.of(suite.getXmlSuite().getFileName()).getFileName().toString()
+                : suite.getName();
+    }
+
+    private static boolean isFailMode() {
+        return !"warn".equalsIgnoreCase(ReadProperties.getProp("budget.mode", "fail"));
+    }
+
+    private static String getName(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    private static Properties loadBudgets() {
+        Properties props = new Properties();
+        try (InputStream stream = PerformanceBudgetListener.class.getResourceAsStream(BUDGETS_FILE)) {
+            if (stream != null) {
+                props.load(stream);
+            } else {
+                LOG.warn("No {} found on classpath, only the baseline is checked", BUDGETS_FILE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return props;
+    }
+
+    private static Properties loadBaseline(Path file) {
+        Properties props = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                props.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return props;
+    }
+
+    private static void storeBaseline(Path file, Properties baseline) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                baseline.store(writer, "p95 wall time in milliseconds per test method, compared by PerformanceBudgetListener.\n"
+                        + "Regenerate with -Dbudget.updateBaseline=true");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOG.info("Performance baseline is updated in [{}]", file.toAbsolutePath());
+    }
+}
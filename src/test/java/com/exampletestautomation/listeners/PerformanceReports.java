@@ -0,0 +1,65 @@
+package com.exampletestautomation.listeners;
+
+import com.exampleautomation.utilities.ReadProperties;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes machine-readable performance reports of the listeners into "performance.reportDir" (target/performance by default)
+ */
+final class PerformanceReports {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerformanceReports.class);
+    private static final Json JSON = new Json();
+
+    private PerformanceReports(){
+
+    }
+
+    static Path reportDir(){
+        return Path.of(ReadProperties.getProp("performance.reportDir", "target/performance"));
+    }
+
+    static Path writeJson(String fileName, Object report){
+        Path file = reportDir().resolve(fileName);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, JSON.toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write report " + file, e);
+        }
+        LOG.info("Performance report is written to [{}]", file.toAbsolutePath());
+        return file;
+    }
+
+    /**
+     * Appends single-line JSON records to the file, so that consecutive runs build up a time series
+     */
+    static synchronized void appendJsonLines(Path file, List<?> records){
+        StringBuilder lines = new StringBuilder();
+        for (Object record : records) {
+            try (JsonOutput output = JSON.newOutput(lines)) {
+                output.setPrettyPrint(false).write(record);
+            }
+            lines.append(System.lineSeparator());
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.exampletestautomation.listeners;
+
+import com.exampleautomation.utilities.CommandTransport;
+import com.exampleautomation.utilities.PhaseTimer;
+import com.exampleautomation.utilities.ReadProperties;
+import com.exampleautomation.utilities.enums.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Attributes wall time of every test method invocation to {@link Phase}s using {@link PhaseTimer}.
+ * </p><p>
+ * Recording starts with the first @BeforeMethod (or the test method itself) and ends after the first @AfterMethod,
+ * so driver start and quit are included. On suite finish the timings are aggregated per test method, written to
+ * phase-timings.json and the slowest "performance.topN" (10 by default) methods are logged.
+ * </p><p>
+ * Round trip times of the WebDriver commands ({@link CommandTransport}), including the time the browser executed
+ * them, are written to command-transport.json.
+ * </p><p>
+ * Register in the suite xml:
+ * <pre>
+ * &lt;listeners&gt;
+ *     &lt;listener class-name="com.exampletestautomation.listeners.PhaseTimingListener"/&gt;
+ * &lt;/listeners&gt;
+ * </pre>
+ * </p>
+ */
+public class PhaseTimingListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PhaseTimingListener.class);
+    private static final String REPORT_FILE = "phase-timings.json";
+    private static final String TRANSPORT_REPORT_FILE = "command-transport.json";
+
+    private final Map<Thread, OpenTest> openTests = new ConcurrentHashMap<>();
+    private final Queue<TestTiming> timings = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        timings.clear();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() && !method.getTestMethod().isBeforeMethodConfiguration()) {
+            return;
+        }
+        OpenTest open = openTests.get(Thread.currentThread());
+        if (open != null && open.result != null) {
+            finish(Thread.currentThread());
+            open = null;
+        }
+        if (open == null) {
+            openTests.put(Thread.currentThread(), new OpenTest(PhaseTimer.startRecording()));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        OpenTest open = openTests.get(Thread.currentThread());
+        if (open == null) {
+            return;
+        }
+        if (method.isTestMethod()) {
+            open.result = testResult;
+        } else if (method.getTestMethod().isAfterMethodConfiguration() && open.result != null) {
+            finish(Thread.currentThread());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        openTests.keySet().forEach(this::finish);
+        List<MethodTiming> aggregated = aggregate();
+        writeReport(suite.getName(), aggregated);
+        logTopN(aggregated, Integer.parseInt(ReadProperties.getProp("performance.topN", "10")));
+        writeTransportReport(suite.getName());
+    }
+
+    private void finish(Thread thread) {
+        OpenTest open = openTests.remove(thread);
+        if (open == null || open.result == null) {
+            return;
+        }
+        ITestResult result = open.result;
+        Map<Phase, Duration> phases = open.recording.stop();
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        timings.add(new TestTiming(name, Arrays.toString(result.getParameters()), status(result),
+                open.recording.getWallTime(), phases));
+    }
+
+    private List<MethodTiming> aggregate() {
+        Map<String, MethodTiming> byMethod = new LinkedHashMap<>();
+        for (TestTiming timing : timings) {
+            byMethod.computeIfAbsent(timing.name(), MethodTiming::new).add(timing);
+        }
+        List<MethodTiming> sorted = new ArrayList<>(byMethod.values());
+        sorted.sort(Comparator.comparing((MethodTiming m) -> m.wall).reversed());
+        return sorted;
+    }
+
+    private void writeReport(String suiteName, List<MethodTiming> aggregated) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteName);
+        report.put("invocations", timings.stream().map(TestTiming::toReport).collect(Collectors.toList()));
+        report.put("methods", aggregated.stream().map(MethodTiming::toReport).collect(Collectors.toList()));
+        PerformanceReports.writeJson(REPORT_FILE, report);
+    }
+
+    private void writeTransportReport(String suiteName) {
+        List<CommandTransport.CommandStats> stats = CommandTransport.getStats();
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long requests = 0;
+        Duration total = Duration.ZERO;
+        for (CommandTransport.CommandStats endpoint : stats) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("endpoint", endpoint.endpoint());
+            entry.put("count", endpoint.count());
+            entry.put("roundTripTotalMillis", endpoint.total().toMillis());
+            entry.put("roundTripMeanMicros", endpoint.getMean().toNanos() / 1000);
+            entry.put("roundTripMinMicros", endpoint.min().toNanos() / 1000);
+            entry.put("roundTripMaxMicros", endpoint.max().toNanos() / 1000);
+            endpoints.add(entry);
+            requests += endpoint.count();
+            total = total.plus(endpoint.total());
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteName);
+        report.put("requests", requests);
+        report.put("roundTripTotalMillis", total.toMillis());
+        report.put("endpoints", endpoints);
+        PerformanceReports.writeJson(TRANSPORT_REPORT_FILE, report);
+        LOG.info("{} WebDriver commands took {} ms round trip, slowest endpoint {} ({} ms total, mean {} us, min {} us)",
+                requests, total.toMillis(), stats.get(0).endpoint(), stats.get(0).total().toMillis(),
+                stats.get(0).getMean().toNanos() / 1000, stats.get(0).min().toNanos() / 1000);
+    }
+
+    private void logTopN(List<MethodTiming> aggregated, int topN) {
+        LOG.info("Top {} slowest test methods by wall time:", Math.min(topN, aggregated.size()));
+        for (int i = 0; i < Math.min(topN, aggregated.size()); i++) {
+            MethodTiming method = aggregated.get(i);
+            String phases = method.phases.entrySet().stream()
+                    .filter(e -> !e.getValue().isZero())
+                    .sorted(Map.Entry.<Phase, Duration>comparingByValue().reversed())
+                    .map(e -> String.format("%s %d ms (%d%%)", e.getKey(), e.getValue().toMillis(),
+                            method.wall.isZero() ? 0 : e.getValue().toNanos() * 100 / method.wall.toNanos()))
+                    .collect(Collectors.joining(", "));
+            LOG.info("{}. {} x{} = {} ms: {}", i + 1, method.name, method.invocations, method.wall.toMillis(), phases);
+        }
+    }
+
+    private static String status(ITestResult result) {
+        return switch (result.getStatus()) {
+            case ITestResult.SUCCESS -> "SUCCESS";
+            case ITestResult.FAILURE -> "FAILURE";
+            case ITestResult.SKIP -> "SKIP";
+            default -> String.valueOf(result.getStatus());
+        };
+    }
+
+    private static Map<String, Long> toMillis(Map<Phase, Duration> phases) {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        phases.forEach((phase, duration) -> millis.put(phase.name(), duration.toMillis()));
+        return millis;
+    }
+
+    private static final class OpenTest {
+        private final PhaseTimer.Recording recording;
+        private volatile ITestResult result;
+
+        private OpenTest(PhaseTimer.Recording recording) {
+            this.recording = recording;
+        }
+    }
+
+    private record TestTiming(String name, String parameters, String status, Duration wall, Map<Phase, Duration> phases) {
+
+        private Map<String, Object> toReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("test", name);
+            report.put("parameters", parameters);
+            report.put("status", status);
+            report.put("wallMillis", wall.toMillis());
+            report.put("phasesMillis", toMillis(phases));
+            return report;
+        }
+    }
+
+    private static final class MethodTiming {
+        private final String name;
+        private final Map<Phase, Duration> phases = new EnumMap<>(Phase.class);
+        private Duration wall = Duration.ZERO;
+        private int invocations;
+
+        private MethodTiming(String name) {
+            this.name = name;
+        }
+
+        private void add(TestTiming timing) {
+            invocations++;
+            wall = wall.plus(timing.wall());
+            timing.phases().forEach((phase, duration) -> phases.merge(phase, duration, Duration::plus));
+        }
+
+        private Map<String, Object> toReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("test", name);
+            report.put("invocations", invocations);
+            report.put("wallMillis", wall.toMillis());
+            report.put("phasesMillis", toMillis(phases));
+            return report;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.exampletestautomation.listeners;
+
+import com.exampleautomation.utilities.replay.SessionRecordings;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * <p>
+ * Names the sessions recorded and replayed in "driver.mode=record|replay" after the test that starts them
+ * (&lt;test&gt;_&lt;Class.method&gt;), so a replay finds its recording regardless of thread order in parallel suites.
+ * The name is set before @BeforeMethod, where the tests start their drivers, and before the test method itself.
+ * </p><p>
+ * Register in the suite xml:
+ * <pre>
+ * &lt;listeners&gt;
+ *     &lt;listener class-name="com.exampletestautomation.listeners.RecordingSessionListener"/&gt;
+ * &lt;/listeners&gt;
+ * </pre>
+ * </p>
+ */
+public class RecordingSessionListener implements IConfigurationListener, IInvokedMethodListener {
+
+    @Override
+    public void beforeConfiguration(ITestResult result, ITestNGMethod testMethod) {
+        if (testMethod != null) {
+            SessionRecordings.setSessionName(getName(result, testMethod));
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isTestMethod()) {
+            SessionRecordings.setSessionName(getName(result, method.getTestMethod()));
+        }
+    }
+
+    private static String getName(ITestResult result, ITestNGMethod testMethod) {
+        return result.getTestContext().getName() + "_" + testMethod.getRealClass().getSimpleName() + "."
+                + testMethod.getMethodName();
+    }
+}
@@ -0,0 +1,122 @@
+package com.exampletestautomation.test.data;
+
+import com.exampleautomation.utilities.TestDataPool;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Generates pools of 600 identities (3 chunks) into temporary cache directories, no browser is started
+ */
+public class TestDataPoolTests {
+
+    private static final long SEED = 42;
+    private static final int SIZE = 600;
+
+    private Path tmpDir;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createCacheDir() throws IOException {
+        tmpDir = Files.createTempDirectory("test-data");
+    }
+
+    @Test(groups = {"testdata"})
+    public void testSameSeedGivesSameRecordsWithAnyThreadCount() throws Exception {
+        List<TestDataPool.Identity> singleThreaded = records(loadWithParallelism(1, tmpDir.resolve("single")));
+        List<TestDataPool.Identity> multiThreaded = records(loadWithParallelism(8, tmpDir.resolve("multi")));
+        Assert.assertEquals(singleThreaded.size(), SIZE);
+        Assert.assertEquals(multiThreaded, singleThreaded);
+        Assert.assertNotEquals(records(TestDataPool.load(SEED + 1, SIZE, Locale.ENGLISH, tmpDir.resolve("other"))),
+                singleThreaded);
+    }
+
+    @Test(groups = {"testdata"})
+    public void testCachedPoolIsReadBack() throws IOException {
+        TestDataPool generated = TestDataPool.load(SEED, SIZE, Locale.ENGLISH, tmpDir);
+        Path cacheFile = cacheFile(tmpDir);
+        Assert.assertTrue(cacheFile.getFileName().toString().contains("-faker-"), cacheFile.toString());
+        List<String> lines = readGzipLines(cacheFile);
+        Assert.assertEquals(lines.size(), SIZE);
+        TestDataPool.Identity first = generated.get(0);
+        Assert.assertEquals(lines.get(0), String.join("\t", first.firstName(), first.lastName(), first.username(),
+                first.email(), first.password()));
+
+        TestDataPool cached = TestDataPool.load(SEED, SIZE, Locale.ENGLISH, tmpDir);
+        Assert.assertEquals(records(cached), records(generated));
+        Assert.assertEquals(cacheFile(tmpDir), cacheFile);
+    }
+
+    @Test(groups = {"testdata"})
+    public void testNextNeverHandsOutAnIdentityTwice() throws Exception {
+        TestDataPool pool = TestDataPool.load(SEED, SIZE, Locale.ENGLISH, tmpDir);
+        Set<TestDataPool.Identity> handedOut =
+                Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(12);
+        try {
+            for (int worker = 0; worker < 12; worker++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < SIZE / 12; i++) {
+                        Assert.assertTrue(handedOut.add(pool.next()), "identity handed out twice");
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(handedOut.size(), SIZE);
+        Assert.expectThrows(IllegalStateException.class, pool::next);
+    }
+
+    private static TestDataPool loadWithParallelism(int parallelism, Path cacheDir) throws Exception {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            return forkJoinPool.submit(() -> TestDataPool.load(SEED, SIZE, Locale.ENGLISH, cacheDir)).get();
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private static List<TestDataPool.Identity> records(TestDataPool pool) {
+        List<TestDataPool.Identity> records = new ArrayList<>(pool.size());
+        for (int i = 0; i < pool.size(); i++) {
+            records.add(pool.get(i));
+        }
+        return records;
+    }
+
+    private static Path cacheFile(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            List<Path> cached = files.filter(file -> file.toString().endsWith(".tsv.gz")).collect(Collectors.toList());
+            Assert.assertEquals(cached.size(), 1, cached.toString());
+            return cached.get(0);
+        }
+    }
+
+    private static List<String> readGzipLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
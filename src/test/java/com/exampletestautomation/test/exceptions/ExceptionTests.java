@@ -1,5 +1,6 @@
 package com.exampletestautomation.test.exceptions;
 
+import com.exampleautomation.utilities.CommonUtilities;
 import com.exampleautomation.utilities.DriverProvider;
 import com.exampleautomation.utilities.ReadProperties;
 import org.openqa.selenium.By;
@@ -26,7 +27,7 @@ public class ExceptionTests {
     public void setUp(@Optional("chrome") String browser) {
         LOG.info("Running tests in: " + browser);
         driver = DriverProvider.getDriver(browser);
-        driver.get(Objects.requireNonNull(ReadProperties.getProp("initialPage")));
+        CommonUtilities.navigateTo(driver, Objects.requireNonNull(ReadProperties.getProp("initialPage")));
     }
 
     @AfterMethod(alwaysRun = true)
@@ -0,0 +1,50 @@
+package com.exampletestautomation.test.load;
+
+import com.exampleautomation.load.LoadProfile;
+import com.exampleautomation.load.LoadReport;
+import com.exampleautomation.load.LoadRunner;
+import com.exampleautomation.load.LoadScenario;
+import com.exampleautomation.utilities.DriverProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+
+
+public class LoadRunnerTests {
+
+    private final Logger LOG = LoggerFactory.getLogger(LoadRunnerTests.class);
+
+    private StandInLoginServer server;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() throws IOException {
+        server = new StandInLoginServer("student", "Password123");
+        LOG.info("Stand-in server is running on {}", server.getUrl());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test(groups = {"load"})
+    @Parameters("browser")
+    public void testLoginLoadAgainstStandInServer(@Optional("chrome") String browser) {
+        LoadProfile profile = new LoadProfile(4, 2, Duration.ofSeconds(2), Duration.ofMillis(200), Duration.ofSeconds(10));
+        LoadReport report = new LoadRunner(profile, () -> DriverProvider.newHeadlessDriver(browser))
+                .run(LoadScenario.login(server.getUrl(), "student", "Password123"));
+        LOG.info("\n{}", report);
+
+        Assert.assertTrue(report.iterations() > 0, "No iteration completed");
+        Assert.assertEquals(report.failedIterations(), 0);
+        for (String action : new String[]{"open", "fill", "submit", "logout"}) {
+            Assert.assertNotNull(report.getAction(action), "No stats for action " + action);
+            Assert.assertTrue(report.getAction(action).count() > 0);
+            Assert.assertTrue(report.getAction(action).p95Millis() >= report.getAction(action).p50Millis());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.exampletestautomation.test.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-in for the practice login page, serves the same element ids and messages as the real application
+ */
+public class StandInLoginServer implements AutoCloseable {
+
+    private static final String LOGIN_PAGE = """
+            <html><body>
+            <form action="/login" method="get">
+              <input id="username" name="username" type="text"/>
+              <input id="password" name="password" type="password"/>
+              <button id="submit" type="submit">Submit</button>
+            </form>
+            </body></html>
+            """;
+    private static final String SUCCESS_PAGE = """
+            <html><body>
+            <h1>Logged In Successfully</h1>
+            <p>Congratulations %s. You successfully logged in!</p>
+            <a href="/">Log out</a>
+            </body></html>
+            """;
+    private static final String ERROR_PAGE = """
+            <html><body>
+            <div id="error">%s</div>
+            <a href="/">Back</a>
+            </body></html>
+            """;
+
+    private final HttpServer server;
+    private final String username;
+    private final String password;
+
+    public StandInLoginServer(String username, String password) throws IOException {
+        this.username = username;
+        this.password = password;
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/login", this::login);
+        server.createContext("/", exchange -> respond(exchange, LOGIN_PAGE));
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        if (!username.equals(query.get("username"))) {
+            respond(exchange, String.format(ERROR_PAGE, "Your username is invalid!"));
+        } else if (!password.equals(query.get("password"))) {
+            respond(exchange, String.format(ERROR_PAGE, "Your password is invalid!"));
+        } else {
+            respond(exchange, String.format(SUCCESS_PAGE, username));
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            params.put(URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8),
+                    keyValue.length > 1 ? URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8) : "");
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -2,8 +2,13 @@ package com.exampletestautomation.test.login;
 
 import com.exampleautomation.pages.LoginPage;
 import com.exampleautomation.utilities.CommonUtilities;
+import com.exampleautomation.utilities.DomSnapshot;
 import com.exampleautomation.utilities.DriverProvider;
+import com.exampleautomation.utilities.PhaseTimer;
 import com.exampleautomation.utilities.ReadProperties;
+import com.exampleautomation.utilities.TestDataPool;
+import com.exampleautomation.utilities.Waiter;
+import com.exampleautomation.utilities.enums.Phase;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
@@ -25,7 +30,7 @@ public class LoginTests {
     public void setUp(@Optional("chrome") String browser) {
         LOG.info("Running tests in: " + browser);
         driver = DriverProvider.getDriver(browser);
-        driver.get(Objects.requireNonNull(ReadProperties.getProp("initialPage")));
+        CommonUtilities.navigateTo(driver, Objects.requireNonNull(ReadProperties.getProp("initialPage")));
         loginPage = new LoginPage(driver);
     }
 
@@ -47,12 +52,14 @@ public class LoginTests {
         loginPage.fillPasswordField(password);
         //Push Submit button
         LOG.info("click submit");
-        loginPage.clickSubmitButton();
+        Waiter.Outcome outcome = loginPage.submitAndWaitForOutcome();
         LOG.info("verify login functionality");
+        Assert.assertEquals(outcome.name(), LoginPage.LOGGED_IN);
         //Verify new page contains expected text ('Congratulations' or 'successfully logged in')
-        Assert.assertTrue(Objects.requireNonNull(driver.getPageSource()).contains("Congratulations") || driver.getPageSource().contains("successfully logged in"));
+        DomSnapshot page = PhaseTimer.measure(Phase.ASSERTION, () -> DomSnapshot.capture(driver));
+        Assert.assertTrue(page.containsAnyText("Congratulations", "successfully logged in"));
         //Verify button Log out is displayed on the new page
-        Assert.assertTrue(CommonUtilities.isElementVisible(driver, LoginPage.Element.LOGOUT_BUTTON.by()));
+        Assert.assertTrue(PhaseTimer.measure(Phase.ASSERTION, () -> CommonUtilities.isElementVisible(driver, LoginPage.Element.LOGOUT_BUTTON.by())));
     }
 
     @Test(groups = {"negative", "regression"}, dataProvider = "testdata")
@@ -65,18 +72,19 @@ public class LoginTests {
         loginPage.fillPasswordField(password);
         //Push Submit button
         LOG.info("click submit");
-        loginPage.clickSubmitButton();
+        Waiter.Outcome outcome = loginPage.submitAndWaitForOutcome();
         LOG.info("verify error messages");
-        //Verify the page contains expected text
-        Assert.assertTrue(Objects.requireNonNull(driver.getPageSource()).contains(expectedErrorMessage));
+        Assert.assertEquals(outcome.name(), LoginPage.LOGIN_ERROR);
+        //Verify the error message contains expected text
+        Assert.assertTrue(PhaseTimer.measure(Phase.ASSERTION, () -> outcome.element().getText().contains(expectedErrorMessage)));
     }
 
     @DataProvider(name = "testdata")
     public Object[][] testData() {
-//        Faker faker = new Faker();
+        TestDataPool pool = TestDataPool.shared();
         return new Object[][]{
-                {"asdasdasd", "Password123", "Your username is invalid!"},
-                {"student", "asdasdasdasd", "Your password is invalid!"}
+                {pool.next().username(), "Password123", "Your username is invalid!"},
+                {"student", pool.next().password(), "Your password is invalid!"}
         };
     }
 }
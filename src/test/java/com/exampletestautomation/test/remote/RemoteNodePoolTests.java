@@ -0,0 +1,140 @@
+package com.exampletestautomation.test.remote;
+
+import com.exampleautomation.utilities.DriverFactory;
+import com.exampleautomation.utilities.enums.BrowserProfiles;
+import com.exampleautomation.utilities.enums.DriverTypes;
+import com.exampleautomation.utilities.remote.RemoteNodePool;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the pool against local chromedriver processes standing in for remote nodes
+ */
+public class RemoteNodePoolTests {
+
+    private final Logger LOG = LoggerFactory.getLogger(RemoteNodePoolTests.class);
+
+    private final List<DriverService> services = new ArrayList<>();
+    private final List<WebDriver> drivers = new ArrayList<>();
+    private HttpServer rejectingNode;
+    private Capabilities options;
+    private URL nodeA;
+    private URL nodeB;
+
+    @BeforeClass(alwaysRun = true)
+    public void startNodes() throws IOException {
+        nodeA = startNode();
+        nodeB = startNode();
+        rejectingNode = startRejectingNode();
+        options = DriverFactory.createOptions(DriverTypes.CHROME, BrowserProfiles.FAST);
+        LOG.info("Stand-in nodes are running on {} and {}", nodeA, nodeB);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void quitDrivers() {
+        drivers.forEach(WebDriver::quit);
+        drivers.clear();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopNodes() {
+        services.forEach(DriverService::stop);
+        rejectingNode.stop(0);
+    }
+
+    @Test(groups = {"remote"})
+    public void testSessionsGoToLeastLoadedNode() {
+        RemoteNodePool pool = new RemoteNodePool(List.of(new RemoteNodePool.Node(nodeA, 2),
+                new RemoteNodePool.Node(nodeB, 2)), Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+        drivers.add(pool.newDriver(options));
+        drivers.add(pool.newDriver(options));
+        Assert.assertEquals(pool.getActiveSessions(nodeA), 1);
+        Assert.assertEquals(pool.getActiveSessions(nodeB), 1);
+
+        quitDrivers();
+        Assert.assertEquals(pool.getActiveSessions(nodeA), 0);
+        Assert.assertEquals(pool.getActiveSessions(nodeB), 0);
+    }
+
+    @Test(groups = {"remote"})
+    public void testFailoverFromUnreachableAndRejectingNodes() throws IOException {
+        URL unreachable = URI.create("http://localhost:" + freePort()).toURL();
+        URL rejecting = URI.create("http://localhost:" + rejectingNode.getAddress().getPort()).toURL();
+        RemoteNodePool pool = new RemoteNodePool(List.of(new RemoteNodePool.Node(unreachable, 4),
+                new RemoteNodePool.Node(rejecting, 4), new RemoteNodePool.Node(nodeA, 1)),
+                Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+        drivers.add(pool.newDriver(options));
+        Assert.assertEquals(pool.getActiveSessions(nodeA), 1);
+        Assert.assertEquals(pool.getActiveSessions(unreachable), 0);
+        Assert.assertEquals(pool.getActiveSessions(rejecting), 0);
+    }
+
+    @Test(groups = {"remote"})
+    public void testCapacityIsEnforced() {
+        RemoteNodePool pool = new RemoteNodePool(List.of(new RemoteNodePool.Node(nodeA, 1)),
+                Duration.ofSeconds(2), Duration.ofSeconds(30));
+
+        drivers.add(pool.newDriver(options));
+        Assert.assertThrows(SessionNotCreatedException.class, () -> pool.newDriver(options));
+
+        quitDrivers();
+        drivers.add(pool.newDriver(options));
+        Assert.assertEquals(pool.getActiveSessions(nodeA), 1);
+    }
+
+    private URL startNode() throws IOException {
+        DriverService service = DriverFactory.createService(DriverTypes.CHROME);
+        service.start();
+        services.add(service);
+        return service.getUrl();
+    }
+
+    /**
+     * Healthy on /status but refuses every session, like a node that is full
+     */
+    private static HttpServer startRejectingNode() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/status", exchange -> respond(exchange, 200,
+                "{\"value\":{\"ready\":true,\"message\":\"ready\"}}"));
+        server.createContext("/session", exchange -> respond(exchange, 500,
+                "{\"value\":{\"error\":\"session not created\",\"message\":\"No free slots\",\"stacktrace\":\"\"}}"));
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
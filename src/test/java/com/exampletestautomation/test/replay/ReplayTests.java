@@ -0,0 +1,75 @@
+package com.exampletestautomation.test.replay;
+
+import com.exampleautomation.pages.LoginPage;
+import com.exampleautomation.utilities.Waiter;
+import com.exampleautomation.utilities.replay.SessionRecordings;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Replays hand-written recordings through the page objects, no browser is started
+ */
+public class ReplayTests {
+
+    private static final String NEW_SESSION = """
+            {"at":0,"command":"newSession","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":{"browserName":"chrome","browserVersion":"replay"}}
+            """;
+    private static final String LOGIN_SUCCESS = NEW_SESSION + """
+            {"at":120,"command":"findElement","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":{"element-6066-11e4-a52e-4f735466cecf":"submit"}}
+            {"at":140,"command":"isElementDisplayed","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":true}
+            {"at":150,"command":"isElementEnabled","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":true}
+            {"at":400,"command":"clickElement","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":null}
+            {"at":420,"command":"executeScript","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":null}
+            {"at":950,"command":"executeScript","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":[0,{"element-6066-11e4-a52e-4f735466cecf":"logout"}]}
+            {"at":970,"command":"getElementText","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":"Log out"}
+            {"at":1000,"command":"quit","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":null}
+            """;
+    private static final String DIVERGING = NEW_SESSION + """
+            {"at":100,"command":"getTitle","parameters":"{}","sessionId":"replay-session","status":0,"state":"success","value":"Test Login"}
+            """;
+
+    private Path recordingDir;
+
+    @BeforeClass(alwaysRun = true)
+    public void createRecordingDir() throws IOException {
+        recordingDir = Files.createTempDirectory("recordings");
+    }
+
+    @Test(groups = {"replay"})
+    public void testLoginOutcomeIsReplayedWithoutBrowser() throws IOException {
+        WebDriver driver = SessionRecordings.startReplay(writeRecording("login-success", LOGIN_SUCCESS));
+        try {
+            Waiter.Outcome outcome = new LoginPage(driver).submitAndWaitForOutcome();
+            Assert.assertEquals(outcome.name(), LoginPage.LOGGED_IN);
+            Assert.assertEquals(outcome.element().getText(), "Log out");
+        } finally {
+            driver.quit();
+        }
+    }
+
+    @Test(groups = {"replay"})
+    public void testDivergingCommandFailsReplay() throws IOException {
+        WebDriver driver = SessionRecordings.startReplay(writeRecording("diverging", DIVERGING));
+        WebDriverException error = Assert.expectThrows(WebDriverException.class,
+                () -> new LoginPage(driver).submitAndWaitForOutcome());
+        Assert.assertTrue(error.getMessage().contains("diverged at command #1: recorded 'getTitle', got 'findElement'"),
+                error.getMessage());
+    }
+
+    private Path writeRecording(String name, String lines) throws IOException {
+        Path file = recordingDir.resolve(name + ".jsonl.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(lines.getBytes(StandardCharsets.UTF_8));
+        }
+        return file;
+    }
+}
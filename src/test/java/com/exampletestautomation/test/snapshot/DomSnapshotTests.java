@@ -0,0 +1,68 @@
+package com.exampletestautomation.test.snapshot;
+
+import com.exampleautomation.utilities.DomSnapshot;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Css selectors are translated to xpath and evaluated on a fixed document, no browser is started
+ */
+public class DomSnapshotTests {
+
+    private static final String PAGE = """
+            <html xmlns="http://www.w3.org/1999/xhtml"><body>
+            <form id="login">
+            <div class="row"><input id="username" name="username" value="a,b"/></div>
+            <div class="row wide"><input id="password" name="password" title="x&gt;y"/></div>
+            <button id="submit" class="btn" data-label="[ok]">Submit</button>
+            </form>
+            <p id="error" class="show">Your username is invalid!</p>
+            </body></html>
+            """;
+
+    private DomSnapshot snapshot;
+
+    @BeforeClass(alwaysRun = true)
+    public void parsePage() {
+        snapshot = new DomSnapshot(PAGE);
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testCombinatorsAndGroups() {
+        Assert.assertEquals(ids("form > div > input"), List.of("username", "password"));
+        Assert.assertEquals(ids("form input"), List.of("username", "password"));
+        Assert.assertEquals(ids("body > input"), List.of());
+        Assert.assertEquals(ids("div.wide input, #submit"), List.of("password", "submit"));
+        Assert.assertEquals(ids("button.btn#submit[data-label]"), List.of("submit"));
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testSeparatorsInsideQuotedValues() {
+        Assert.assertEquals(ids("[value='a,b']"), List.of("username"));
+        Assert.assertEquals(ids("input[title=\"x>y\"]"), List.of("password"));
+        Assert.assertEquals(ids("[data-label='[ok]'], p.show"), List.of("submit", "error"));
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testUnsupportedSelectorsAreRejected() {
+        for (String selector : List.of("div + div", "input:first-child", "[value^='a']", "[value=a,b]", "form >",
+                "> input", "form > > input", "input,", "[value='a'")) {
+            Assert.expectThrows(IllegalArgumentException.class, () -> snapshot.findAll(By.cssSelector(selector)));
+        }
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testTextQueries() {
+        Assert.assertEquals(snapshot.getText(By.cssSelector("p#error")), "Your username is invalid!");
+        Assert.assertTrue(snapshot.containsAnyText("is invalid", "Logged In"));
+        Assert.assertEquals(snapshot.findTexts("Submit", "Log out"), Set.of("Submit"));
+    }
+
+    private List<String> ids(String selector) {
+        return snapshot.findAll(By.cssSelector(selector)).stream().map(element -> element.getAttribute("id")).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.exampletestautomation.test.snapshot;
+
+import com.exampleautomation.utilities.TextMatcher;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+
+public class TextMatcherTests {
+
+    @Test(groups = {"snapshot"})
+    public void testOverlappingPatternsAreAllFound() {
+        TextMatcher matcher = new TextMatcher("hers", "he", "she", "his");
+        Assert.assertEquals(List.copyOf(matcher.findAll("ushers")), List.of("hers", "he", "she"));
+        Assert.assertTrue(matcher.containsAny("ushers"));
+        Assert.assertFalse(matcher.containsAny("a hush"));
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testPatternInsideAnotherPatternIsFound() {
+        TextMatcher matcher = new TextMatcher("Logged In Successfully", "In", "Success");
+        Assert.assertEquals(matcher.findAll("Logged In Successfully"), Set.of("Logged In Successfully", "In", "Success"));
+        Assert.assertEquals(matcher.findAll("Logged Out"), Set.of());
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testMatchingIsCaseSensitiveByDefault() {
+        TextMatcher matcher = new TextMatcher("Your username is invalid!");
+        Assert.assertFalse(matcher.containsAny("YOUR USERNAME IS INVALID!"));
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testIgnoringCaseReportsPatternsAsPassed() {
+        TextMatcher matcher = TextMatcher.ignoringCase("Log Out", "INVALID", "strasse");
+        Assert.assertEquals(List.copyOf(matcher.findAll("Please LOG out, your password is Invalid")),
+                List.of("Log Out", "INVALID"));
+        Assert.assertTrue(matcher.containsAny("STRASSE"));
+        Assert.assertFalse(matcher.containsAny("log in"));
+    }
+
+    @Test(groups = {"snapshot"})
+    public void testEmptyPatternIsRejected() {
+        Assert.expectThrows(IllegalArgumentException.class, () -> new TextMatcher("a", ""));
+    }
+}
@@ -0,0 +1,64 @@
+package com.exampletestautomation.tools;
+
+import com.exampleautomation.utilities.DriverFactory;
+import com.exampleautomation.utilities.ReadProperties;
+import com.exampleautomation.utilities.Statistics;
+import com.exampleautomation.utilities.enums.BrowserProfiles;
+import com.exampleautomation.utilities.enums.DriverTypes;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Reports browser launch time (new driver until the first page is loaded) per browser type and {@link BrowserProfiles}.
+ * Driver resolution runs once before measuring, so the numbers show launch cost only.
+ * </p><p>
+ * "benchmark.browsers" (chrome by default) and "benchmark.profiles" (all by default) are comma separated,
+ * "benchmark.iterations" is the number of launches per profile (5 by default).
+ * </p>
+ */
+public class DriverStartupBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DriverStartupBenchmark.class);
+
+    private DriverStartupBenchmark(){
+
+    }
+
+    public static void main(String[] args) {
+        int iterations = Integer.parseInt(ReadProperties.getProp("benchmark.iterations", "5"));
+        List<String> profiles = new ArrayList<>();
+        for (BrowserProfiles profile : BrowserProfiles.values()) {
+            profiles.add(profile.name());
+        }
+        StringBuilder report = new StringBuilder(String.format("%-8s %-9s %6s %8s %6s %6s %6s %8s%n",
+                "browser", "profile", "runs", "mean ms", "p50", "p95", "max", "quit ms"));
+        for (String browser : ReadProperties.getProp("benchmark.browsers", "chrome").split("\\s*,\\s*")) {
+            DriverTypes type = DriverTypes.fromString(browser);
+            DriverFactory.resolve(type);
+            for (String profileName : ReadProperties.getProp("benchmark.profiles", String.join(",", profiles)).split("\\s*,\\s*")) {
+                BrowserProfiles profile = BrowserProfiles.fromString(profileName);
+                List<Long> launchMillis = new ArrayList<>();
+                List<Long> quitMillis = new ArrayList<>();
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    WebDriver driver = DriverFactory.create(type, profile);
+                    driver.get("about:blank");
+                    launchMillis.add((System.nanoTime() - start) / 1_000_000);
+                    start = System.nanoTime();
+                    driver.quit();
+                    quitMillis.add((System.nanoTime() - start) / 1_000_000);
+                }
+                report.append(String.format("%-8s %-9s %6d %8.0f %6d %6d %6d %8.0f%n", browser, profile, iterations,
+                        Statistics.mean(launchMillis), Statistics.percentile(launchMillis, 50),
+                        Statistics.percentile(launchMillis, 95), Statistics.percentile(launchMillis, 100),
+                        Statistics.mean(quitMillis)));
+            }
+        }
+        LOG.info("Browser startup times:\n{}", report);
+    }
+}
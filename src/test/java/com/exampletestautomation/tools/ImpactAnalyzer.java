@@ -0,0 +1,531 @@
+package com.exampletestautomation.tools;
+
+import com.exampleautomation.utilities.ReadProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Build-time change-impact test selection. Maps which test classes use which page classes, their methods and
+ * {@link com.exampleautomation.interfaces.PageElements} constants (e.g. LoginPage.Element.LOGOUT_BUTTON used by
+ * LoginTests), intersects the mapping with "git diff" against "impact.base" and writes a copy of "impact.suite" that
+ * contains only the affected test classes to target/impact/ImpactSuite.xml. Page methods calling each other are
+ * followed, so a test calling submitAndWaitForOutcome() depends on clickSubmitButton() and SUBMIT_BUTTON as well.
+ * </p><p>
+ * "impact.base" defaults to the merge-base of HEAD with its upstream branch (origin/HEAD, origin/main or origin/master
+ * when no upstream is set), so a clean CI checkout compares the whole branch, not just the uncommitted changes.
+ * </p><p>
+ * Falls back to the full suite when the mapping is uncertain: changes outside of page classes and test classes
+ * (utilities, interfaces, resources, pom.xml, listeners), deleted page classes, no base to compare with, when git is
+ * not available, or when no test class is selected at all.
+ * </p><p>
+ * Runs in the "impact" Maven profile: mvn test -Pimpact -Dimpact.base=origin/main
+ * </p>
+ */
+public class ImpactAnalyzer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImpactAnalyzer.class);
+    private static final Path MAIN_SOURCES = Path.of("src/main/java");
+    private static final Path TEST_SOURCES = Path.of("src/test/java");
+    private static final Pattern PAGE_ELEMENTS_ENUM = Pattern.compile("enum\\s+(\\w+)\\s+implements\\s+(?:Container)?PageElements");
+    private static final Pattern ENUM_CONSTANT = Pattern.compile("^\\s*([A-Z][A-Z0-9_]*)\\s*\\(");
+    private static final Pattern METHOD_DECLARATION = Pattern.compile(
+            "^\\s*(?:(?:public|protected|private|static|final|synchronized|default)\\s+)*(?:<[^>]+>\\s+)?[\\w.<>\\[\\], ?]+\\s+(\\w+)\\s*\\([^)]*\\)\\s*(?:throws\\s+[\\w., ]+)?\\s*\\{");
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final Pattern TEST_ANNOTATION = Pattern.compile("^\\s*@Test\\b", Pattern.MULTILINE);
+    private static final Pattern METHOD_CALL = Pattern.compile("\\b(\\w+)\\s*\\(");
+    private static final List<String> UPSTREAM_CANDIDATES = List.of("@{upstream}", "origin/HEAD", "origin/main", "origin/master");
+
+    private final Path projectDir;
+    private final String base;
+
+    public ImpactAnalyzer(Path projectDir, String base) {
+        this.projectDir = projectDir;
+        this.base = base;
+    }
+
+    public static void main(String[] args) {
+        Path projectDir = Path.of(ReadProperties.getProp("impact.projectDir", "."));
+        Path suite = projectDir.resolve(ReadProperties.getProp("impact.suite", "src/test/resources/TestSuites/FullRegressionSuite.xml"));
+        Path output = projectDir.resolve(ReadProperties.getProp("impact.output", "target/impact/ImpactSuite.xml"));
+        String base = ReadProperties.getProp("impact.base", null);
+        ImpactAnalyzer analyzer = new ImpactAnalyzer(projectDir, base != null ? base : findUpstreamMergeBase(projectDir));
+        Set<String> affected = analyzer.findAffectedTestClasses();
+        analyzer.writeSuite(suite, output, affected);
+    }
+
+    /**
+     * @return fully qualified names of affected test classes, null if the full suite has to run
+     */
+    public Set<String> findAffectedTestClasses() {
+        if (base == null) {
+            LOG.warn("No base to compare with, falling back to the full suite (set -Dimpact.base)");
+            return null;
+        }
+        List<String> changedFiles;
+        try {
+            changedFiles = new ArrayList<>(git("diff", "--name-only", base));
+            changedFiles.addAll(git("ls-files", "--others", "--exclude-standard"));
+        } catch (IllegalStateException e) {
+            LOG.warn("Could not get changed files, falling back to the full suite: {}", e.getMessage());
+            return null;
+        }
+        Map<String, PageClass> pages = scanPages();
+        Map<String, TestClass> tests = scanTests(pages);
+        Map<String, Set<String>> mainClassPages = scanMainClassPageUsage(pages);
+        tests.values().forEach(test -> test.mainClasses.forEach(mainClass ->
+                test.wholePages.addAll(mainClassPages.getOrDefault(mainClass, Set.of()))));
+        tests.values().forEach(test -> LOG.info("{} uses pages {}, members {}, elements {}",
+                test.name, test.pages, test.methods, test.elements));
+
+        Set<String> affected = new TreeSet<>();
+        for (String file : changedFiles) {
+            Path path = Path.of(file);
+            String className = toClassName(path);
+            if (path.startsWith(TEST_SOURCES) && tests.containsKey(className)) {
+                affected.add(className);
+            } else if (path.startsWith(MAIN_SOURCES) && pages.containsKey(className)) {
+                if (!Files.exists(projectDir.resolve(path))) {
+                    LOG.info("Page class {} is deleted, falling back to the full suite", className);
+                    return null;
+                }
+                PageClass page = pages.get(className);
+                Set<String> changedMembers = page.membersAt(changedLines(file));
+                LOG.info("Changed page class {}: {}", className, changedMembers == null ? "whole class" : changedMembers);
+                tests.values().stream()
+                        .filter(test -> test.isAffectedBy(page, changedMembers))
+                        .forEach(test -> affected.add(test.name));
+            } else if (path.startsWith("src") || path.equals(Path.of("pom.xml"))) {
+                LOG.info("Change of {} can not be mapped to tests, falling back to the full suite", file);
+                return null;
+            }
+        }
+        if (affected.isEmpty()) {
+            LOG.info("No test class is affected by {} changed files since {}, falling back to the full suite",
+                    changedFiles.size(), base);
+            return null;
+        }
+        LOG.info("Affected test classes: {}", affected);
+        return affected;
+    }
+
+    /**
+     * @return merge-base of HEAD with the first existing upstream candidate, null if there is none
+     */
+    static String findUpstreamMergeBase(Path projectDir) {
+        ImpactAnalyzer analyzer = new ImpactAnalyzer(projectDir, null);
+        for (String upstream : UPSTREAM_CANDIDATES) {
+            try {
+                String mergeBase = analyzer.git("merge-base", "HEAD", upstream).get(0);
+                LOG.info("Comparing with the merge-base {} of HEAD and {}", mergeBase, upstream);
+                return mergeBase;
+            } catch (IllegalStateException | IndexOutOfBoundsException e) {
+                LOG.debug("No merge-base with {}: {}", upstream, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies the suite keeping only the affected classes, tests left without classes are removed
+     *
+     * @param suite full suite xml
+     * @param output reduced suite xml
+     * @param affected affected test classes, null to copy the full suite
+     */
+    public void writeSuite(Path suite, Path output, Set<String> affected) {
+        try {
+            Files.createDirectories(output.getParent());
+            if (affected == null) {
+                Files.copy(suite, output, StandardCopyOption.REPLACE_EXISTING);
+                LOG.info("Full suite is copied to [{}]", output.toAbsolutePath());
+                return;
+            }
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            Document document = factory.newDocumentBuilder().parse(suite.toFile());
+            for (Element classElement : elements(document.getElementsByTagName("class"))) {
+                if (!affected.contains(classElement.getAttribute("name"))) {
+                    remove(classElement);
+                }
+            }
+            for (Element test : elements(document.getElementsByTagName("test"))) {
+                if (test.getElementsByTagName("class").getLength() == 0 && test.getElementsByTagName("package").getLength() == 0) {
+                    remove(test);
+                }
+            }
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            if (document.getDoctype() != null) {
+                transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, document.getDoctype().getSystemId());
+            }
+            transformer.transform(new DOMSource(document), new StreamResult(output.toFile()));
+            LOG.info("Reduced suite with {} test classes is written to [{}]", affected.size(), output.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not write suite " + output, e);
+        }
+    }
+
+    private Map<String, PageClass> scanPages() {
+        Map<String, PageClass> pages = new TreeMap<>();
+        for (Path file : javaFiles(MAIN_SOURCES)) {
+            List<String> lines = read(file);
+            Matcher enumMatcher = PAGE_ELEMENTS_ENUM.matcher(String.join("\n", lines));
+            if (enumMatcher.find()) {
+                String name = toClassName(file);
+                pages.put(name, new PageClass(name, enumMatcher.group(1), lines));
+            }
+        }
+        return pages;
+    }
+
+    private Map<String, TestClass> scanTests(Map<String, PageClass> pages) {
+        Map<String, TestClass> tests = new TreeMap<>();
+        for (Path file : javaFiles(TEST_SOURCES)) {
+            String source = String.join("\n", read(file));
+            if (!TEST_ANNOTATION.matcher(source).find()) {
+                continue;
+            }
+            TestClass test = new TestClass(toClassName(file));
+            for (PageClass page : pages.values()) {
+                if (!Pattern.compile("\\b" + page.simpleName + "\\b").matcher(source).find()) {
+                    continue;
+                }
+                test.pages.add(page.name);
+                Matcher elements = Pattern.compile("\\b" + page.simpleName + "\\." + page.enumName + "\\.([A-Z][A-Z0-9_]*)").matcher(source);
+                while (elements.find()) {
+                    test.elements.add(page.name + "#" + elements.group(1));
+                }
+                Matcher variables = Pattern.compile("\\b" + page.simpleName + "\\s+(\\w+)\\s*[;=,)]").matcher(source);
+                while (variables.find()) {
+                    Matcher calls = Pattern.compile("\\b" + variables.group(1) + "\\.(\\w+)\\s*\\(").matcher(source);
+                    while (calls.find()) {
+                        test.methods.add(page.name + "#" + calls.group(1));
+                    }
+                }
+            }
+            Matcher imports = Pattern.compile("^import\\s+(com\\.exampleautomation\\.[\\w.]+);", Pattern.MULTILINE).matcher(source);
+            while (imports.find()) {
+                test.mainClasses.add(imports.group(1));
+            }
+            tests.put(test.name, test);
+        }
+        return tests;
+    }
+
+    /**
+     * Non-page main classes (e.g. load scenarios) that use pages, tests using them depend on the whole page
+     */
+    private Map<String, Set<String>> scanMainClassPageUsage(Map<String, PageClass> pages) {
+        Map<String, Set<String>> usage = new TreeMap<>();
+        for (Path file : javaFiles(MAIN_SOURCES)) {
+            String name = toClassName(file);
+            if (pages.containsKey(name)) {
+                continue;
+            }
+            String source = String.join("\n", read(file));
+            for (PageClass page : pages.values()) {
+                if (Pattern.compile("\\b" + page.simpleName + "\\b").matcher(source).find()) {
+                    usage.computeIfAbsent(name, k -> new HashSet<>()).add(page.name);
+                }
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * @return changed line numbers of the new version of the file
+     */
+    private Set<Integer> changedLines(String file) {
+        Set<Integer> lines = new HashSet<>();
+        for (String line : git("diff", "-U0", base, "--", file)) {
+            Matcher hunk = HUNK.matcher(line);
+            if (hunk.find()) {
+                int start = Integer.parseInt(hunk.group(1));
+                int count = hunk.group(2) != null ? Integer.parseInt(hunk.group(2)) : 1;
+                if (count == 0) {
+                    lines.add(start);
+                    lines.add(start + 1);
+                }
+                for (int i = start; i < start + count; i++) {
+                    lines.add(i);
+                }
+            }
+        }
+        if (lines.isEmpty()) {
+            // untracked file, everything is new
+            lines.add(0);
+        }
+        return lines;
+    }
+
+    private List<String> git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command).directory(projectDir.toFile()).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException(String.join(" ", command) + " failed: " + output.strip());
+            }
+            return output.lines().filter(line -> !line.isBlank()).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not run git", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running git", e);
+        }
+    }
+
+    private List<Path> javaFiles(Path root) {
+        Path dir = projectDir.resolve(root);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.toString().endsWith(".java"))
+                    .map(file -> projectDir.relativize(file))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> read(Path file) {
+        try {
+            return Files.readAllLines(projectDir.resolve(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toClassName(Path file) {
+        Path relative = file.startsWith(MAIN_SOURCES) ? MAIN_SOURCES.relativize(file)
+                : file.startsWith(TEST_SOURCES) ? TEST_SOURCES.relativize(file) : file;
+        return relative.toString().replaceAll("\\.java$", "").replace('/', '.').replace('\\', '.');
+    }
+
+    /**
+     * Removes the element together with its indentation, so that the reduced suite keeps the original formatting
+     */
+    private static void remove(Element element) {
+        Node previous = element.getPreviousSibling();
+        if (previous != null && previous.getNodeType() == Node.TEXT_NODE && previous.getTextContent().isBlank()) {
+            previous.getParentNode().removeChild(previous);
+        }
+        element.getParentNode().removeChild(element);
+    }
+
+    private static List<Element> elements(NodeList nodes) {
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element element) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Page class with the line ranges of its enum constants and methods
+     */
+    private static final class PageClass {
+        private final String name;
+        private final String simpleName;
+        private final String enumName;
+        private final Map<Integer, String> memberByLine = new TreeMap<>();
+        private final Map<String, Set<String>> elementsByMethod = new TreeMap<>();
+        private final Map<String, Set<String>> callsByMethod = new TreeMap<>();
+
+        private PageClass(String name, String enumName, List<String> lines) {
+            this.name = name;
+            this.simpleName = name.substring(name.lastIndexOf('.') + 1);
+            this.enumName = enumName;
+            parse(lines);
+        }
+
+        private void parse(List<String> lines) {
+            Map<String, StringBuilder> bodies = new TreeMap<>();
+            boolean inEnum = false;
+            String currentConstant = null;
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                int lineNumber = i + 1;
+                if (line.contains("enum " + enumName)) {
+                    inEnum = true;
+                    continue;
+                }
+                if (inEnum) {
+                    Matcher constant = ENUM_CONSTANT.matcher(line);
+                    if (constant.find()) {
+                        currentConstant = "element:" + constant.group(1);
+                    }
+                    if (currentConstant != null) {
+                        memberByLine.put(lineNumber, currentConstant);
+                    }
+                    // constants end with the first ';', the rest of the enum body is not mapped (whole class)
+                    inEnum = !line.trim().endsWith(";");
+                    continue;
+                }
+                Matcher method = METHOD_DECLARATION.matcher(line);
+                if (method.find() && !line.contains(" new ")) {
+                    int end = findClosingBrace(lines, i);
+                    String methodName = method.group(1);
+                    Set<String> usedElements = new TreeSet<>();
+                    StringBuilder body = bodies.computeIfAbsent(methodName, k -> new StringBuilder());
+                    for (int j = i; j <= end; j++) {
+                        memberByLine.put(j + 1, "method:" + methodName);
+                        body.append(j == i ? line.substring(method.end()) : lines.get(j)).append('\n');
+                        Matcher elementUse = Pattern.compile("\\b" + enumName + "\\.([A-Z][A-Z0-9_]*)").matcher(lines.get(j));
+                        while (elementUse.find()) {
+                            usedElements.add(elementUse.group(1));
+                        }
+                    }
+                    elementsByMethod.computeIfAbsent(methodName, k -> new TreeSet<>()).addAll(usedElements);
+                    i = end;
+                }
+            }
+            bodies.forEach((methodName, body) -> {
+                Set<String> calls = callsByMethod.computeIfAbsent(methodName, k -> new TreeSet<>());
+                Matcher call = METHOD_CALL.matcher(body);
+                while (call.find()) {
+                    if (bodies.containsKey(call.group(1))) {
+                        calls.add(call.group(1));
+                    }
+                }
+            });
+        }
+
+        /**
+         * Follows calls between the methods of this page until no new method is found
+         *
+         * @param methods methods called from outside
+         *
+         * @return the methods and every page method they call directly or indirectly
+         */
+        private Set<String> reachableFrom(Set<String> methods) {
+            Set<String> reachable = new TreeSet<>(methods);
+            List<String> pending = new ArrayList<>(methods);
+            while (!pending.isEmpty()) {
+                for (String callee : callsByMethod.getOrDefault(pending.remove(pending.size() - 1), Set.of())) {
+                    if (reachable.add(callee)) {
+                        pending.add(callee);
+                    }
+                }
+            }
+            return reachable;
+        }
+
+        /**
+         * @return changed members ("element:NAME", "method:name"), null if a change is outside of any member
+         */
+        private Set<String> membersAt(Set<Integer> changedLines) {
+            Set<String> members = new TreeSet<>();
+            for (int line : changedLines) {
+                String member = memberByLine.get(line);
+                if (member == null) {
+                    return null;
+                }
+                members.add(member);
+            }
+            return members;
+        }
+
+        private static int findClosingBrace(List<String> lines, int start) {
+            int depth = 0;
+            for (int i = start; i < lines.size(); i++) {
+                for (char c : lines.get(i).toCharArray()) {
+                    if (c == '{') {
+                        depth++;
+                    } else if (c == '}' && --depth == 0) {
+                        return i;
+                    }
+                }
+            }
+            return lines.size() - 1;
+        }
+    }
+
+    private static final class TestClass {
+        private final String name;
+        private final Set<String> pages = new TreeSet<>();
+        private final Set<String> wholePages = new TreeSet<>();
+        private final Set<String> methods = new TreeSet<>();
+        private final Set<String> elements = new TreeSet<>();
+        private final Set<String> mainClasses = new TreeSet<>();
+
+        private TestClass(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param changedMembers changed members of the page, null if the whole page class is affected
+         */
+        private boolean isAffectedBy(PageClass page, Set<String> changedMembers) {
+            if (wholePages.contains(page.name)) {
+                return true;
+            }
+            if (!pages.contains(page.name)) {
+                return false;
+            }
+            if (changedMembers == null) {
+                return true;
+            }
+            Set<String> calledMethods = new TreeSet<>();
+            for (String method : methods) {
+                if (method.startsWith(page.name + "#")) {
+                    calledMethods.add(method.substring(method.indexOf('#') + 1));
+                }
+            }
+            Set<String> reachable = page.reachableFrom(calledMethods);
+            for (String member : changedMembers) {
+                String memberName = member.substring(member.indexOf(':') + 1);
+                if (member.startsWith("method:")) {
+                    if (reachable.contains(memberName) || memberName.equals(page.simpleName)) {
+                        return true;
+                    }
+                } else {
+                    if (elements.contains(page.name + "#" + memberName)) {
+                        return true;
+                    }
+                    for (String methodName : reachable) {
+                        if (page.elementsByMethod.getOrDefault(methodName, Set.of()).contains(memberName)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
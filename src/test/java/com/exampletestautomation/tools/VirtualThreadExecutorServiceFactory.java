@@ -0,0 +1,24 @@
+package com.exampletestautomation.tools;
+
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes TestNG run parallel tests on virtual threads instead of platform threads. The pool sizes TestNG passes
+ * (the suite thread-count) still bound the number of tests running at the same time, the number of real browsers is
+ * bounded separately by "driver.maxBrowsers" in DriverProvider.
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                Thread.ofVirtual().name("testng-virtual-", 0).factory());
+    }
+}
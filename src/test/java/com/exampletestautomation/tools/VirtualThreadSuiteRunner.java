@@ -0,0 +1,47 @@
+package com.exampletestautomation.tools;
+
+import com.exampleautomation.utilities.ReadProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Runs TestNG suites in parallel on virtual threads ({@link VirtualThreadExecutorServiceFactory}).
+ * </p><p>
+ * Suites are passed as arguments or "parallel.suites" (comma separated, FullRegressionSuite.xml by default),
+ * parallel mode is "parallel.mode" (tests by default, test classes keep their driver in instance fields so methods
+ * of one class must not share an instance across threads). "parallel.threadCount" (100 by default) bounds the tests
+ * running at the same time, set "driver.maxBrowsers" to bound the number of browsers.
+ * </p><p>
+ * Runs in the "virtual-threads" Maven profile: mvn test -Pvirtual-threads -Ddriver.maxBrowsers=4
+ * </p>
+ */
+public class VirtualThreadSuiteRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadSuiteRunner.class);
+
+    private VirtualThreadSuiteRunner(){
+
+    }
+
+    public static void main(String[] args) {
+        List<String> suites = args.length > 0 ? Arrays.asList(args)
+                : Arrays.asList(ReadProperties.getProp("parallel.suites", "src/test/resources/TestSuites/FullRegressionSuite.xml").split("\\s*,\\s*"));
+        TestNG testng = new TestNG();
+        testng.setTestSuites(suites);
+        testng.setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory());
+        testng.setParallel(XmlSuite.ParallelMode.getValidParallel(ReadProperties.getProp("parallel.mode", "tests")));
+        testng.setThreadCount(Integer.parseInt(ReadProperties.getProp("parallel.threadCount", "100")));
+        LOG.info("Running {} on virtual threads, browsers bounded by driver.maxBrowsers={}",
+                suites, ReadProperties.getProp("driver.maxBrowsers", "unbounded"));
+        testng.run();
+        if (testng.getStatus() != 0) {
+            throw new IllegalStateException("Test run failed with status " + testng.getStatus());
+        }
+    }
+}